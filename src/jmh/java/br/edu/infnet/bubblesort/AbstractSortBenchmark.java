@@ -0,0 +1,100 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base dos benchmarks de ordenação: gera a entrada uma vez por combinação de parâmetros e mede a
+ * ordenação de uma cópia dela a cada chamada.
+ *
+ * <p>A cópia entra no tempo medido, mas tem o mesmo custo para todos os algoritmos de um mesmo
+ * tamanho e tipo, então as comparações entre eles continuam válidas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractSortBenchmark {
+
+    /**
+     * Tipos de elemento ordenados.
+     */
+    public enum ElementType {
+        INT, LONG, DOUBLE, INTEGER, STRING
+    }
+
+    @Param
+    public ElementType type;
+
+    @Param
+    public Distribution distribution;
+
+    private SortAlgorithm sorter;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private Integer[] integers;
+    private String[] strings;
+
+    /**
+     * @return o algoritmo medido
+     */
+    protected abstract SortAlgorithm algorithm();
+
+    /**
+     * @return o tamanho da entrada
+     */
+    protected abstract int size();
+
+    @Setup
+    public void setUp() {
+        sorter = algorithm();
+        int[] values = distribution.generate(size(), 42);
+        switch (type) {
+            case INT:
+                ints = values;
+                break;
+            case LONG:
+                longs = Arrays.stream(values).asLongStream().toArray();
+                break;
+            case DOUBLE:
+                doubles = Arrays.stream(values).asDoubleStream().toArray();
+                break;
+            case INTEGER:
+                integers = Arrays.stream(values).boxed().toArray(Integer[]::new);
+                break;
+            default:
+                strings = Arrays.stream(values).mapToObj(value -> String.format("%010d", value)).toArray(String[]::new);
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object sort() {
+        switch (type) {
+            case INT:
+                return sorter.sort(ints.clone());
+            case LONG:
+                return sorter.sort(longs.clone());
+            case DOUBLE:
+                return sorter.sort(doubles.clone());
+            case INTEGER:
+                return sorter.sort(integers.clone());
+            default:
+                return sorter.sort(strings.clone());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package br.edu.infnet.bubblesort;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Mede o {@link BubbleSort}, sequencial e paralelo, em tamanhos compatíveis com O(n²).
+ */
+public class BubbleSortBenchmark extends AbstractSortBenchmark {
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Override
+    protected SortAlgorithm algorithm() {
+        return parallelism == 1 ? new BubbleSort() : new BubbleSort(parallelism, 1000);
+    }
+
+    @Override
+    protected int size() {
+        return size;
+    }
+}
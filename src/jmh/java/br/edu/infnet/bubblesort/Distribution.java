@@ -0,0 +1,72 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Random;
+
+/**
+ * Distribuições de entrada usadas nos benchmarks.
+ *
+ * <p>Todos os valores gerados estão em {@code [0, size)}, o que permite convertê-los em
+ * {@link String} com zeros à esquerda sem alterar a ordem.
+ */
+public enum Distribution {
+    /** Valores aleatórios uniformes. */
+    RANDOM,
+    /** Valores já em ordem crescente. */
+    SORTED,
+    /** Valores em ordem decrescente. */
+    REVERSED,
+    /** Apenas 16 valores distintos. */
+    FEW_UNIQUE,
+    /** Metade crescente seguida de metade decrescente. */
+    ORGAN_PIPE,
+    /** Ordem crescente com cerca de 1% dos elementos trocados de lugar. */
+    NEARLY_SORTED;
+
+    /**
+     * Gera {@code size} valores com esta distribuição a partir de uma semente fixa.
+     *
+     * @param size número de valores
+     * @param seed semente do gerador
+     * @return os valores gerados
+     */
+    int[] generate(int size, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[size];
+        switch (this) {
+            case RANDOM:
+                for (int i = 0; i < size; i++) {
+                    values[i] = random.nextInt(size);
+                }
+                break;
+            case SORTED:
+                for (int i = 0; i < size; i++) {
+                    values[i] = i;
+                }
+                break;
+            case REVERSED:
+                for (int i = 0; i < size; i++) {
+                    values[i] = size - 1 - i;
+                }
+                break;
+            case FEW_UNIQUE:
+                for (int i = 0; i < size; i++) {
+                    values[i] = random.nextInt(16) * (size / 16);
+                }
+                break;
+            case ORGAN_PIPE:
+                for (int i = 0; i < size; i++) {
+                    values[i] = i < size / 2 ? 2 * i : 2 * (size - 1 - i);
+                }
+                break;
+            default:
+                for (int i = 0; i < size; i++) {
+                    values[i] = i;
+                }
+                for (int swaps = size / 100; swaps > 0; swaps--) {
+                    SortUtils.swap(values, random.nextInt(size), random.nextInt(size));
+                }
+                break;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,77 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Compara os algoritmos O(n log n) e lineares entre si e com {@link Arrays#sort}.
+ */
+public class SortBenchmark extends AbstractSortBenchmark {
+
+    /**
+     * Algoritmos medidos.
+     */
+    public enum Algorithm {
+        ADAPTIVE_MERGE, DUAL_PIVOT_QUICK, PARALLEL_MERGE, RADIX, STRING_QUICK, SELECTOR, JDK
+    }
+
+    @Param
+    public Algorithm algorithm;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Override
+    protected SortAlgorithm algorithm() {
+        switch (algorithm) {
+            case ADAPTIVE_MERGE:
+                return new AdaptiveMergeSort();
+            case DUAL_PIVOT_QUICK:
+                return new DualPivotQuickSort();
+            case PARALLEL_MERGE:
+                return new ParallelMergeSort();
+            case RADIX:
+                return new RadixSort();
+            case STRING_QUICK:
+                return new StringQuickSort();
+            case SELECTOR:
+                return new SortSelector();
+            default:
+                return new JdkSort();
+        }
+    }
+
+    @Override
+    protected int size() {
+        return size;
+    }
+
+    /**
+     * Referência: a ordenação da biblioteca padrão.
+     */
+    private static final class JdkSort implements SortAlgorithm {
+        @Override
+        public <T extends Comparable<T>> T[] sort(T[] array) {
+            Arrays.sort(array);
+            return array;
+        }
+
+        @Override
+        public int[] sort(int[] array) {
+            Arrays.sort(array);
+            return array;
+        }
+
+        @Override
+        public long[] sort(long[] array) {
+            Arrays.sort(array);
+            return array;
+        }
+
+        @Override
+        public double[] sort(double[] array) {
+            Arrays.sort(array);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara a rede de ordenação vetorizada com o {@link BubbleSort}, o insertion sort das folhas e
+ * {@link Arrays#sort} em blocos pequenos de {@code int} aleatórios.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingNetworkBenchmark {
+
+    @Param({"8", "16", "32", "64"})
+    public int size;
+
+    private final BubbleSort bubbleSort = new BubbleSort();
+    private int[] source;
+
+    @Setup
+    public void setUp() {
+        source = new Random(42).ints(size).toArray();
+    }
+
+    @Benchmark
+    public int[] bubbleSort() {
+        return bubbleSort.sort(source.clone());
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        int[] array = source.clone();
+        SortUtils.insertionSort(array, 0, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public int[] sortingNetwork() {
+        int[] array = source.clone();
+        SortingNetwork.sort(array, 0, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public int[] jdk() {
+        int[] array = source.clone();
+        Arrays.sort(array);
+        return array;
+    }
+}
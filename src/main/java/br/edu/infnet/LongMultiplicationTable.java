@@ -0,0 +1,80 @@
+package br.edu.infnet;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * Visão preguiçosa da tabuada {@code number * 1, ..., number * limit} em {@code long}, sem
+ * estouro: o maior produto em valor absoluto, {@code number * limit}, é verificado com
+ * {@link Math#multiplyExact(long, long)} na criação, então todos os demais também cabem.
+ *
+ * <p>Como {@link MultiplicationTable}, a visão ocupa memória constante e só cria um array em
+ * {@link #toArray()}.
+ */
+public final class LongMultiplicationTable {
+
+    private final long number;
+    private final int limit;
+
+    /**
+     * @throws ArithmeticException se {@code number * limit} não couber em {@code long}
+     */
+    public LongMultiplicationTable(long number, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative.");
+        }
+        Math.multiplyExact(number, (long) limit);
+        this.number = number;
+        this.limit = limit;
+    }
+
+    public int size() {
+        return limit;
+    }
+
+    /**
+     * O elemento de índice {@code index}, isto é, {@code number * (index + 1)}.
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, limit);
+        return number * (index + 1L);
+    }
+
+    public LongStream stream() {
+        return LongStream.range(0, limit).map(index -> number * (index + 1));
+    }
+
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        long value = 0;
+        for (int i = 0; i < limit; i++) {
+            value += number;
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Copia a tabela para {@code dest} a partir de {@code offset}.
+     *
+     * @return o próprio {@code dest}
+     */
+    public long[] into(long[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, limit, dest.length);
+        long value = 0;
+        for (int i = 0; i < limit; i++) {
+            value += number;
+            dest[offset + i] = value;
+        }
+        return dest;
+    }
+
+    public long[] toArray() {
+        return into(new long[limit], 0);
+    }
+
+    @Override
+    public String toString() {
+        return "LongMultiplicationTable{number=" + number + ", limit=" + limit + '}';
+    }
+}
@@ -1,6 +1,8 @@
 package br.edu.infnet;
 
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
 
 public class MathFunctions
 {
@@ -10,22 +12,510 @@ public class MathFunctions
     }
     public static int[] generateMultiplicationTable(int number, int limit)
     {
-        int[] result = new int[limit];
-        for (int i = 0; i < limit; i++)
+        return multiplicationTable(number, limit).toArray();
+    }
+    public static MultiplicationTable multiplicationTable(int number, int limit)
+    {
+        return new MultiplicationTable(number, limit);
+    }
+    /**
+     * Tabuada em {@code long}; lança {@link ArithmeticException} se algum produto estourar.
+     */
+    public static long[] generateMultiplicationTable(long number, int limit)
+    {
+        return multiplicationTable(number, limit).toArray();
+    }
+    public static LongMultiplicationTable multiplicationTable(long number, int limit)
+    {
+        return new LongMultiplicationTable(number, limit);
+    }
+    /**
+     * Consulta o {@link PrimeSieve} compartilhado abaixo do seu limite; acima dele, usa o teste de
+     * Miller-Rabin com as testemunhas {2, 7, 61}, que bastam para todo {@code int}.
+     */
+    public static boolean isPrime(int number)
+    {
+        if (number <= 1) return false;
+        PrimeSieve sieve = PrimeSieve.shared();
+        if (number <= sieve.limit()) return sieve.isPrime(number);
+        for (int prime : SMALL_PRIMES)
         {
-            result[i] = number * (i + 1);
+            if (number % prime == 0) return number == prime;
         }
-        return result;
+        if (number < 41 * 41) return true;
+        long d = number - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+        for (long witness : INT_WITNESSES)
+        {
+            long x = powMod(witness, d, number);
+            if (x == 1 || x == number - 1) continue;
+            int i = 1;
+            while (i < s && x != number - 1)
+            {
+                x = x * x % number;
+                i++;
+            }
+            if (x != number - 1) return false;
+        }
+        return true;
     }
-    public static boolean isPrime(int number)
+
+    /**
+     * Teste de Miller-Rabin determinístico: as testemunhas {2, 325, 9375, 28178, 450775, 9780504,
+     * 1795265022} bastam para todo {@code long}. A aritmética é feita na forma de Montgomery, sem
+     * divisões; valores que cabem em {@code int} usam {@link #isPrime(int)}.
+     */
+    public static boolean isPrime(long number)
     {
         if (number <= 1) return false;
-        for (int i = 2; i <= Math.sqrt(number); i++)
+        if (number <= Integer.MAX_VALUE) return isPrime((int) number);
+        if (hasSmallFactor(number)) return false;
+        Montgomery montgomery = new Montgomery(number);
+        long one = montgomery.one;
+        long minusOne = number - one;
+        long d = number - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+        for (long witness : LONG_WITNESSES)
         {
-            if (number % i == 0) return false;
+            long a = witness % number;
+            if (a == 0) continue;
+            long x = montgomery.pow(montgomery.toMontgomery(a), d);
+            if (x == one || x == minusOne) continue;
+            int i = 1;
+            while (i < s && x != minusOne)
+            {
+                x = montgomery.multiply(x, x);
+                i++;
+            }
+            if (x != minusOne) return false;
         }
         return true;
     }
+
+    public static void isPrime(int[] numbers, boolean[] result)
+    {
+        checkLengths(numbers.length, result.length);
+        if (numbers.length < PARALLEL_THRESHOLD)
+        {
+            for (int i = 0; i < numbers.length; i++)
+            {
+                result[i] = isPrime(numbers[i]);
+            }
+            return;
+        }
+        IntStream.range(0, numbers.length).parallel().forEach(i -> result[i] = isPrime(numbers[i]));
+    }
+
+    /**
+     * Liga em {@code result} o bit {@code i} de cada {@code numbers[i]} primo e desliga os demais
+     * bits até {@code numbers.length}. Blocos de 64 números são classificados em paralelo em
+     * palavras próprias e só então copiados para o {@link BitSet}, que não aceita escritas
+     * simultâneas.
+     */
+    public static void isPrime(int[] numbers, BitSet result)
+    {
+        long[] words = new long[(numbers.length + 63) >>> 6];
+        IntStream blocks = IntStream.range(0, words.length);
+        if (numbers.length >= PARALLEL_THRESHOLD) blocks = blocks.parallel();
+        blocks.forEach(word -> {
+            int end = Math.min(numbers.length, (word + 1) << 6);
+            for (int i = word << 6; i < end; i++)
+            {
+                if (isPrime(numbers[i])) words[word] |= 1L << i;
+            }
+        });
+        result.clear(0, numbers.length);
+        result.or(BitSet.valueOf(words));
+    }
+
+    /**
+     * Número de primos em {@code [from, to)}, pelo crivo segmentado do intervalo.
+     */
+    public static int countPrimes(int from, int to)
+    {
+        checkRange(from, to);
+        int count = 0;
+        for (long word : PrimeSieve.primeBits(from, to))
+        {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Primos de {@code [from, to)}, em ordem crescente.
+     */
+    public static int[] primesInRange(int from, int to)
+    {
+        checkRange(from, to);
+        long[] bits = PrimeSieve.primeBits(from, to);
+        int count = 0;
+        for (long word : bits)
+        {
+            count += Long.bitCount(word);
+        }
+        int[] primes = new int[count];
+        int next = 0;
+        for (int word = 0; word < bits.length; word++)
+        {
+            for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1)
+            {
+                primes[next++] = from + (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+        }
+        return primes;
+    }
+
+    /**
+     * Primos de {@code [from, to)} como bitmap: o bit {@code i} representa {@code from + i}.
+     */
+    public static BitSet primesBitmap(int from, int to)
+    {
+        checkRange(from, to);
+        return BitSet.valueOf(PrimeSieve.primeBits(from, to));
+    }
+
+    /**
+     * Fatoração em primos como pares {@code [p1, e1, p2, e2, ...]}, com os primos em ordem crescente;
+     * {@code factorize(1)} é vazio. Números até {@value #SPF_LIMIT} são fatorados pela tabela de
+     * menores fatores primos; os demais, por divisão pelos primos pequenos e Pollard-Brent rho, com
+     * Miller-Rabin para reconhecer os fatores primos.
+     */
+    public static long[] factorize(long number)
+    {
+        return factorize(number, new long[Long.SIZE]);
+    }
+
+    /**
+     * Fatora cada número como {@link #factorize(long)}, reutilizando o mesmo buffer de fatores.
+     */
+    public static long[][] factorize(long[] numbers)
+    {
+        long[] scratch = new long[Long.SIZE];
+        long[][] result = new long[numbers.length][];
+        for (int i = 0; i < numbers.length; i++)
+        {
+            result[i] = factorize(numbers[i], scratch);
+        }
+        return result;
+    }
+
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private static void checkLengths(int numbers, int result)
+    {
+        if (numbers != result)
+        {
+            throw new IllegalArgumentException("Result must have the same length as the input.");
+        }
+    }
+
+    private static void checkRange(int from, int to)
+    {
+        if (from < 0 || to < from)
+        {
+            throw new IllegalArgumentException("Range must satisfy 0 <= from <= to.");
+        }
+    }
+
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+    private static final long[] INT_WITNESSES = {2, 7, 61};
+    private static final long[] LONG_WITNESSES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+    /**
+     * Se o número, maior que 37, é divisível por algum dos primos até 37.
+     */
+    private static boolean hasSmallFactor(long number)
+    {
+        for (int prime : SMALL_PRIMES)
+        {
+            if (number % prime == 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@code base^exponent mod modulus} para {@code modulus < 2^31}, em que os produtos cabem em
+     * {@code long}.
+     */
+    private static long powMod(long base, long exponent, long modulus)
+    {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0)
+        {
+            if ((exponent & 1) != 0) result = result * base % modulus;
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Multiplicação modular de Montgomery com {@code R = 2^64} para um módulo ímpar menor que
+     * {@code 2^63}. Os valores ficam na forma {@code aR mod n} e cada produto é reduzido sem divisão.
+     */
+    private static final class Montgomery
+    {
+        private final long modulus;
+        private final long negativeInverse;
+        private final long rSquared;
+        final long one;
+
+        Montgomery(long modulus)
+        {
+            this.modulus = modulus;
+            long inverse = modulus;
+            for (int i = 0; i < 5; i++)
+            {
+                inverse *= 2 - modulus * inverse;
+            }
+            this.negativeInverse = -inverse;
+            this.one = Long.remainderUnsigned(-modulus, modulus);
+            long r = one;
+            for (int i = 0; i < 64; i++)
+            {
+                r <<= 1;
+                if (Long.compareUnsigned(r, modulus) >= 0) r -= modulus;
+            }
+            this.rSquared = r;
+        }
+
+        long toMontgomery(long value)
+        {
+            return multiply(value, rSquared);
+        }
+
+        /**
+         * {@code a * b * R^-1 mod n} para {@code a, b < n}.
+         */
+        long multiply(long a, long b)
+        {
+            long high = Math.multiplyHigh(a, b);
+            long low = a * b;
+            long m = low * negativeInverse;
+            long result = high + unsignedMultiplyHigh(m, modulus) + (low != 0 ? 1 : 0);
+            return Long.compareUnsigned(result, modulus) >= 0 ? result - modulus : result;
+        }
+
+        /**
+         * {@code x^2 + c} na forma de Montgomery, o polinômio do rho de Pollard.
+         */
+        long squarePlus(long x, long c)
+        {
+            long result = multiply(x, x) + c;
+            return Long.compareUnsigned(result, modulus) >= 0 ? result - modulus : result;
+        }
+
+        long pow(long base, long exponent)
+        {
+            long result = one;
+            while (exponent > 0)
+            {
+                if ((exponent & 1) != 0) result = multiply(result, base);
+                base = multiply(base, base);
+                exponent >>= 1;
+            }
+            return result;
+        }
+
+        /**
+         * Parte alta do produto sem sinal, corrigindo {@link Math#multiplyHigh} para operandos
+         * com o bit mais alto ligado.
+         */
+        private static long unsignedMultiplyHigh(long a, long b)
+        {
+            return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+        }
+    }
+    private static final int SPF_LIMIT = 1 << 20;
+    private static final int TRIAL_DIVISION_LIMIT = 1 << 10;
+
+    /**
+     * Menor fator primo de cada número até {@link #SPF_LIMIT}, pelo crivo linear, que marca cada
+     * composto uma única vez. Construída no primeiro uso.
+     */
+    private static final class SmallestPrimeFactors
+    {
+        static final int[] TABLE = new int[SPF_LIMIT + 1];
+        static final int[] PRIMES;
+
+        static
+        {
+            int[] primes = new int[SPF_LIMIT];
+            int count = 0;
+            for (int i = 2; i <= SPF_LIMIT; i++)
+            {
+                if (TABLE[i] == 0)
+                {
+                    TABLE[i] = i;
+                    primes[count++] = i;
+                }
+                for (int j = 0; j < count && primes[j] <= TABLE[i] && (long) i * primes[j] <= SPF_LIMIT; j++)
+                {
+                    TABLE[i * primes[j]] = primes[j];
+                }
+            }
+            PRIMES = Arrays.copyOf(primes, count);
+        }
+    }
+
+    /**
+     * Fatora usando {@code scratch} para os fatores primos com repetição; um {@code long} tem no
+     * máximo 63.
+     */
+    private static long[] factorize(long number, long[] scratch)
+    {
+        if (number <= 0)
+        {
+            throw new IllegalArgumentException("Number must be positive.");
+        }
+        int count = 0;
+        if (number > SPF_LIMIT)
+        {
+            for (int prime : SmallestPrimeFactors.PRIMES)
+            {
+                if (prime >= TRIAL_DIVISION_LIMIT) break;
+                while (number % prime == 0)
+                {
+                    scratch[count++] = prime;
+                    number /= prime;
+                }
+            }
+        }
+        count = collectFactors(number, scratch, count);
+        for (int i = 1; i < count; i++)
+        {
+            long current = scratch[i];
+            int j = i - 1;
+            while (j >= 0 && scratch[j] > current)
+            {
+                scratch[j + 1] = scratch[j];
+                j--;
+            }
+            scratch[j + 1] = current;
+        }
+        int distinct = 0;
+        for (int i = 0; i < count; i++)
+        {
+            if (i == 0 || scratch[i] != scratch[i - 1]) distinct++;
+        }
+        long[] factors = new long[2 * distinct];
+        int next = -2;
+        for (int i = 0; i < count; i++)
+        {
+            if (i == 0 || scratch[i] != scratch[i - 1])
+            {
+                next += 2;
+                factors[next] = scratch[i];
+            }
+            factors[next + 1]++;
+        }
+        return factors;
+    }
+
+    /**
+     * Acrescenta a {@code scratch} os fatores primos de {@code number}, sem ordem.
+     *
+     * @return o novo número de fatores em {@code scratch}
+     */
+    private static int collectFactors(long number, long[] scratch, int count)
+    {
+        while (number > 1)
+        {
+            if (number <= SPF_LIMIT)
+            {
+                int prime = SmallestPrimeFactors.TABLE[(int) number];
+                scratch[count++] = prime;
+                number /= prime;
+            }
+            else if (isPrime(number))
+            {
+                scratch[count++] = number;
+                return count;
+            }
+            else
+            {
+                long divisor = pollardBrent(number);
+                count = collectFactors(divisor, scratch, count);
+                number /= divisor;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Um divisor não trivial de um composto ímpar sem fatores pequenos, pelo rho de Pollard com a
+     * busca de ciclo de Brent: as diferenças são multiplicadas em lotes e só o produto passa pelo
+     * mdc. Se o lote inteiro der o próprio número, o último lote é refeito passo a passo; se ainda
+     * assim falhar, a constante do polinômio é trocada.
+     */
+    private static long pollardBrent(long number)
+    {
+        Montgomery montgomery = new Montgomery(number);
+        int batch = 128;
+        for (long c = 1; ; c++)
+        {
+            long constant = montgomery.toMontgomery(c);
+            long y = montgomery.toMontgomery(2);
+            long x = y;
+            long saved = y;
+            long product = montgomery.one;
+            long divisor = 1;
+            for (int length = 1; divisor == 1; length <<= 1)
+            {
+                x = y;
+                for (int i = 0; i < length; i++)
+                {
+                    y = montgomery.squarePlus(y, constant);
+                }
+                for (int k = 0; k < length && divisor == 1; k += batch)
+                {
+                    saved = y;
+                    for (int i = 0; i < Math.min(batch, length - k); i++)
+                    {
+                        y = montgomery.squarePlus(y, constant);
+                        product = montgomery.multiply(product, Math.abs(x - y));
+                    }
+                    divisor = gcd(product, number);
+                }
+            }
+            if (divisor == number)
+            {
+                do
+                {
+                    saved = montgomery.squarePlus(saved, constant);
+                    divisor = gcd(Math.abs(x - saved), number);
+                }
+                while (divisor == 1);
+            }
+            if (divisor != number) return divisor;
+        }
+    }
+
+    private static long gcd(long a, long b)
+    {
+        if (a == 0) return b;
+        if (b == 0) return a;
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do
+        {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b)
+            {
+                long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        }
+        while (b != 0);
+        return a << shift;
+    }
+
     public static double calculateAverage(int[] numbers) {
         if (numbers == null || numbers.length == 0) {
             throw new IllegalArgumentException("Array cannot be null or empty.");
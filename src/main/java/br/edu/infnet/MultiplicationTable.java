@@ -0,0 +1,77 @@
+package br.edu.infnet;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Visão preguiçosa da tabuada {@code number * 1, number * 2, ..., number * limit}.
+ *
+ * <p>Nenhum elemento é guardado: cada um é calculado quando lido, então a visão ocupa memória
+ * constante qualquer que seja o {@code limit}. O array só é criado por {@link #toArray()}; para
+ * reutilizar um buffer, use {@link #into(int[], int)}. Como em
+ * {@link MathFunctions#generateMultiplicationTable(int, int)}, os produtos seguem a aritmética de
+ * {@code int}; para produtos verificados, veja {@link LongMultiplicationTable}.
+ */
+public final class MultiplicationTable {
+
+    private final int number;
+    private final int limit;
+
+    public MultiplicationTable(int number, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative.");
+        }
+        this.number = number;
+        this.limit = limit;
+    }
+
+    public int size() {
+        return limit;
+    }
+
+    /**
+     * O elemento de índice {@code index}, isto é, {@code number * (index + 1)}.
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, limit);
+        return number * (index + 1);
+    }
+
+    public IntStream stream() {
+        return IntStream.range(0, limit).map(index -> number * (index + 1));
+    }
+
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int value = 0;
+        for (int i = 0; i < limit; i++) {
+            value += number;
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Copia a tabela para {@code dest} a partir de {@code offset}.
+     *
+     * @return o próprio {@code dest}
+     */
+    public int[] into(int[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, limit, dest.length);
+        int value = 0;
+        for (int i = 0; i < limit; i++) {
+            value += number;
+            dest[offset + i] = value;
+        }
+        return dest;
+    }
+
+    public int[] toArray() {
+        return into(new int[limit], 0);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiplicationTable{number=" + number + ", limit=" + limit + '}';
+    }
+}
@@ -0,0 +1,336 @@
+package br.edu.infnet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Tabela de primos até um limite, construída pelo crivo de Eratóstenes segmentado.
+ *
+ * <p>Só os ímpares são guardados, um bit por número (bit {@code i} para {@code 2i + 1}), e o crivo
+ * é feito em segmentos de 32 KiB, que cabem na cache, processados em paralelo. Depois de construída,
+ * a tabela não muda e pode ser consultada por várias threads.
+ *
+ * <p>A tabela pode ser gravada num arquivo com {@link #save(Path)} e aberta com {@link #load(Path)},
+ * que mapeia o arquivo somente para leitura: as consultas leem direto do cache de páginas do sistema
+ * operacional, sem cópia no heap, e vários processos do mesmo host compartilham as mesmas páginas. O
+ * arquivo tem um cabeçalho de {@value #HEADER_BYTES} bytes (número mágico, versão, limite, número de
+ * palavras e CRC32 das palavras) seguido das palavras em little-endian.
+ *
+ * <p>{@link #shared()} devolve uma tabela única, criada no primeiro uso, com o limite dado pela
+ * propriedade de sistema {@value #LIMIT_PROPERTY} ou {@link #DEFAULT_LIMIT}. Se a propriedade
+ * {@value #FILE_PROPERTY} indicar um arquivo, a tabela é aberta dele ou, se o arquivo não existir ou
+ * for inválido, construída e gravada nele por {@link #loadOrBuild(Path, int)}, que mantém a tabela
+ * construída se não conseguir gravá-la. Um caminho inválido é registrado em {@link System.Logger} e
+ * a tabela é construída só em memória.
+ */
+public final class PrimeSieve {
+
+    public static final String LIMIT_PROPERTY = "br.edu.infnet.primeSieve.limit";
+    public static final String FILE_PROPERTY = "br.edu.infnet.primeSieve.file";
+    public static final int DEFAULT_LIMIT = 1 << 24;
+
+    static final int MAGIC = 0x5052_4D53;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    private static final int SEGMENT_BITS = 1 << 18;
+    private static final long MAX_FILE_BYTES = HEADER_BYTES + (long) words(Integer.MAX_VALUE) * Long.BYTES;
+
+    private static final System.Logger LOGGER = System.getLogger(PrimeSieve.class.getName());
+    private static final int SPARSE_RANGE = 1 << 12;
+
+    private final int limit;
+    private final LongBuffer composite;
+
+    public PrimeSieve(int limit) {
+        this(limit, LongBuffer.wrap(build(checkLimit(limit))));
+    }
+
+    private PrimeSieve(int limit, LongBuffer composite) {
+        this.limit = limit;
+        this.composite = composite;
+    }
+
+    /**
+     * Abre uma tabela gravada por {@link #save(Path)}, mapeando o arquivo somente para leitura.
+     *
+     * @throws IOException se o arquivo não puder ser lido ou o cabeçalho ou o CRC32 não conferirem
+     */
+    public static PrimeSieve load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Prime table file is truncated: " + file);
+            }
+            if (channel.size() > MAX_FILE_BYTES) {
+                throw new IOException("Prime table file is too large: " + file);
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("Not a prime table file: " + file);
+            }
+            int limit = mapped.getInt(8);
+            long words = mapped.getLong(16);
+            if (limit < 2 || words != words(limit) || channel.size() != HEADER_BYTES + words * Long.BYTES) {
+                throw new IOException("Prime table file has an invalid size: " + file);
+            }
+            ByteBuffer body = mapped.slice(HEADER_BYTES, (int) (words * Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if (crc.getValue() != mapped.getLong(24)) {
+                throw new IOException("Prime table file checksum mismatch: " + file);
+            }
+            return new PrimeSieve(limit, body.asLongBuffer());
+        }
+    }
+
+    /**
+     * Abre a tabela do arquivo se ele for válido e cobrir {@code limit}; caso contrário, constrói a
+     * tabela e tenta gravá-la no arquivo. Se a gravação falhar, a falha é registrada em
+     * {@link System.Logger} e a tabela construída é retornada mesmo assim.
+     */
+    public static PrimeSieve loadOrBuild(Path file, int limit) {
+        checkLimit(limit);
+        if (Files.exists(file)) {
+            try {
+                PrimeSieve sieve = load(file);
+                if (sieve.limit >= limit) {
+                    return sieve;
+                }
+            } catch (IOException e) {
+                // arquivo inválido ou de outra versão: reconstruído abaixo
+            }
+        }
+        PrimeSieve sieve = new PrimeSieve(limit);
+        try {
+            sieve.save(file);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not save the prime table to " + file, e);
+        }
+        return sieve;
+    }
+
+    /**
+     * Grava a tabela num arquivo temporário no mesmo diretório e o move para {@code file}, para que
+     * outros processos nunca vejam um arquivo incompleto.
+     */
+    public void save(Path file) throws IOException {
+        int words = composite.capacity();
+        ByteBuffer body = ByteBuffer.allocate(words * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        body.asLongBuffer().put(composite.duplicate().rewind());
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC).putInt(VERSION).putInt(limit).putInt(0)
+                .putLong(words).putLong(crc.getValue())
+                .flip();
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public static PrimeSieve shared() {
+        return Holder.SHARED;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public boolean isPrime(int number) {
+        if (number > limit) {
+            throw new IllegalArgumentException("Number exceeds the sieve limit of " + limit + ".");
+        }
+        if (number < 2) {
+            return false;
+        }
+        if ((number & 1) == 0) {
+            return number == 2;
+        }
+        int index = number >>> 1;
+        return (composite.get(index >>> 6) & (1L << index)) == 0;
+    }
+
+    private static int checkLimit(int limit) {
+        if (limit < 2) {
+            throw new IllegalArgumentException("Limit must be at least 2.");
+        }
+        return limit;
+    }
+
+    private static int words(int limit) {
+        return ((limit >>> 1) + 1 + 63) >>> 6;
+    }
+
+    private static long[] build(int limit) {
+        int bits = (limit >>> 1) + 1;
+        long[] composite = new long[words(limit)];
+        int[] basePrimes = oddPrimesUpTo(sqrt(limit));
+        int segments = (bits + SEGMENT_BITS - 1) / SEGMENT_BITS;
+        IntStream.range(0, segments).parallel().forEach(segment -> {
+            long from = (long) segment * SEGMENT_BITS;
+            sieve(composite, basePrimes, from, Math.min(bits, from + SEGMENT_BITS));
+        });
+        composite[0] |= 1L;
+        return composite;
+    }
+
+    /**
+     * Marca os múltiplos ímpares de cada primo base cujos índices estão em {@code [from, to)}. Os
+     * segmentos começam em múltiplos de 64 bits, então cada um escreve só nas próprias palavras.
+     */
+    private static void sieve(long[] composite, int[] basePrimes, long from, long to) {
+        for (int p : basePrimes) {
+            long start = (long) p * p >>> 1;
+            if (start >= to) {
+                break;
+            }
+            if (start < from) {
+                long offset = Math.floorMod((p >>> 1) - from, p);
+                start = from + offset;
+            }
+            for (long index = start; index < to; index += p) {
+                composite[(int) (index >>> 6)] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Bits dos primos em {@code [from, to)}: o bit {@code i} está ligado se {@code from + i} for
+     * primo. Intervalos pequenos testam cada número com {@link MathFunctions#isPrime(int)}; os
+     * demais são divididos em blocos de {@value #SEGMENT_BITS} números crivados em paralelo com os
+     * primos até a raiz de {@code to}.
+     */
+    static long[] primeBits(int from, int to) {
+        int length = to - from;
+        long[] bits = new long[(length + 63) >>> 6];
+        if (length < SPARSE_RANGE) {
+            for (int i = 0; i < length; i++) {
+                if (MathFunctions.isPrime(from + i)) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+            }
+            return bits;
+        }
+        int[] basePrimes = BasePrimes.ODD;
+        int maxBase = sqrt(to - 1);
+        int blocks = (length + SEGMENT_BITS - 1) / SEGMENT_BITS;
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            int offset = block * SEGMENT_BITS;
+            sieveRange(bits, basePrimes, maxBase, from, offset, Math.min(length, offset + SEGMENT_BITS));
+        });
+        return bits;
+    }
+
+    /**
+     * Liga os bits dos ímpares de {@code [from + offset, from + end)} e desliga os múltiplos de cada
+     * primo base; {@code offset} é múltiplo de 64, então cada bloco escreve só nas próprias palavras.
+     */
+    private static void sieveRange(long[] bits, int[] basePrimes, int maxBase, int from, int offset, int end) {
+        long lo = (long) from + offset;
+        long hi = (long) from + end;
+        for (long n = lo | 1; n < hi; n += 2) {
+            if (n > 1) {
+                int i = (int) (n - from);
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        if (lo <= 2 && 2 < hi) {
+            int i = 2 - from;
+            bits[i >>> 6] |= 1L << i;
+        }
+        for (int p : basePrimes) {
+            if (p > maxBase) {
+                break;
+            }
+            long start = Math.max((long) p * p, (lo + p - 1) / p * p);
+            if ((start & 1) == 0) {
+                start += p;
+            }
+            for (long n = start; n < hi; n += 2L * p) {
+                int i = (int) (n - from);
+                bits[i >>> 6] &= ~(1L << i);
+            }
+        }
+    }
+
+    /**
+     * Primos ímpares até {@code max}, por um crivo simples.
+     */
+    private static int[] oddPrimesUpTo(int max) {
+        boolean[] composite = new boolean[max + 1];
+        int[] primes = new int[max + 1];
+        int count = 0;
+        for (int i = 3; i <= max; i += 2) {
+            if (!composite[i]) {
+                primes[count++] = i;
+                for (long j = (long) i * i; j <= max; j += 2L * i) {
+                    composite[(int) j] = true;
+                }
+            }
+        }
+        return Arrays.copyOf(primes, count);
+    }
+
+    private static int sqrt(int number) {
+        int root = (int) Math.sqrt(number);
+        while ((long) root * root > number) {
+            root--;
+        }
+        while ((long) (root + 1) * (root + 1) <= number) {
+            root++;
+        }
+        return root;
+    }
+
+    private static final class BasePrimes {
+        static final int[] ODD = oddPrimesUpTo(sqrt(Integer.MAX_VALUE));
+    }
+
+    private static final class Holder {
+        static final PrimeSieve SHARED = create();
+
+        private static PrimeSieve create() {
+            int limit = Integer.getInteger(LIMIT_PROPERTY, DEFAULT_LIMIT);
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                try {
+                    return loadOrBuild(Path.of(file), limit);
+                } catch (RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING,
+                            "Could not use the prime table file " + file + "; building it in memory", e);
+                }
+            }
+            return new PrimeSieve(limit);
+        }
+    }
+}
@@ -0,0 +1,1200 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+
+/**
+ * Ordenação adaptativa no estilo do TimSort.
+ *
+ * <p>Percorre o array identificando sequências naturais crescentes e estritamente decrescentes
+ * (estas são invertidas no lugar). Sequências curtas são estendidas até um tamanho mínimo com
+ * insertion sort binário e as sequências são intercaladas numa pilha que mantém os tamanhos
+ * balanceados. As intercalações usam galope: quando uma das sequências vence várias comparações
+ * seguidas, o trecho que ela ainda vence é localizado por busca exponencial e copiado em bloco.
+ *
+ * <p>Em entradas já ordenadas (ou em ordem inversa) executa em O(n); no pior caso, em O(n log n).
+ * A ordenação é estável e usa um buffer auxiliar de até metade do tamanho da entrada.
+ *
+ * @see SortAlgorithm
+ */
+class AdaptiveMergeSort implements SortAlgorithm {
+
+    /**
+     * Arrays menores que isso são ordenados apenas com insertion sort binário.
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Vitórias seguidas de uma sequência necessárias para entrar no modo de galope.
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Profundidade máxima da pilha de sequências; as invariantes de {@code mergeCollapse}
+     * garantem que 49 basta para qualquer array indexável por {@code int}.
+     */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Ordena o array em tempo linear se ele já estiver ordenado (ou em ordem inversa) e em
+     * O(n log n) no pior caso.
+     *
+     * @param array o array a ser ordenado.
+     * @return o array ordenado.
+     */
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        int length = array.length;
+        if (length < 2) {
+            return array;
+        }
+        if (length < MIN_MERGE) {
+            binaryInsertionSort(array, 0, length, countRunAndMakeAscending(array, 0, length));
+            return array;
+        }
+        T[] tmp = Arrays.copyOf(array, length >>> 1);
+        int[] runBase = new int[MAX_RUNS];
+        int[] runLength = new int[MAX_RUNS];
+        int runs = 0;
+        int minRun = minRunLength(length);
+        int lo = 0;
+        while (lo < length) {
+            int runEnd = countRunAndMakeAscending(array, lo, length);
+            if (runEnd - lo < minRun) {
+                int forced = Math.min(length, lo + minRun);
+                binaryInsertionSort(array, lo, forced, runEnd);
+                runEnd = forced;
+            }
+            runBase[runs] = lo;
+            runLength[runs] = runEnd - lo;
+            runs++;
+            runs = mergeCollapse(array, tmp, runBase, runLength, runs);
+            lo = runEnd;
+        }
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                i--;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return array;
+    }
+
+    /**
+     * Encontra o fim da sequência natural que começa em {@code lo}. Uma sequência estritamente
+     * decrescente é invertida com {@link SortUtils#flip}; exigir ordem estrita garante que
+     * elementos iguais não trocam de posição.
+     *
+     * @return índice exclusivo do fim da sequência, que agora é crescente
+     */
+    private static <T extends Comparable<T>> int countRunAndMakeAscending(T[] array, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return hi;
+        }
+        if (SortUtils.less(array[runHi++], array[lo])) {
+            while (runHi < hi && SortUtils.less(array[runHi], array[runHi - 1])) {
+                runHi++;
+            }
+            SortUtils.flip(array, lo, runHi - 1);
+        } else {
+            while (runHi < hi && !SortUtils.less(array[runHi], array[runHi - 1])) {
+                runHi++;
+            }
+        }
+        return runHi;
+    }
+
+    /**
+     * Insertion sort com busca binária de {@code array[lo, hi)}, sabendo que {@code array[lo, start)}
+     * já está ordenado. Cada elemento é inserido após os iguais a ele, o que mantém a estabilidade.
+     */
+    private static <T extends Comparable<T>> void binaryInsertionSort(T[] array, int lo, int hi, int start) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            T pivot = array[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (SortUtils.less(pivot, array[mid])) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    /**
+     * Intercala sequências da pilha até que os tamanhos voltem a satisfazer as invariantes do TimSort
+     * ({@code len[i - 2] > len[i - 1] + len[i]} e {@code len[i - 1] > len[i]}), o que limita a
+     * profundidade da pilha e mantém as intercalações balanceadas.
+     *
+     * @return o novo número de sequências na pilha
+     */
+    private static <T extends Comparable<T>> int mergeCollapse(T[] array, T[] tmp, int[] runBase, int[] runLength, int runs) {
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1]
+                    || i > 1 && runLength[i - 2] <= runLength[i] + runLength[i - 1]) {
+                if (runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+            } else if (runLength[i] > runLength[i + 1]) {
+                break;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return runs;
+    }
+
+    /**
+     * Intercala as sequências {@code i} e {@code i + 1} da pilha. Antes da intercalação, a parte
+     * inicial da primeira sequência e a parte final da segunda que já estão no lugar são descartadas
+     * por galope.
+     */
+    private static <T extends Comparable<T>> void mergeAt(T[] array, T[] tmp, int[] runBase, int[] runLength, int i, int runs) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == runs - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        int start = gallopUpper(array, base1, base1 + length1, array[base2]);
+        length1 -= start - base1;
+        base1 = start;
+        if (length1 == 0) {
+            return;
+        }
+        length2 = gallopLower(array, base2, base2 + length2, array[base1 + length1 - 1]) - base2;
+        if (length2 == 0) {
+            return;
+        }
+        if (length1 <= length2) {
+            mergeLo(array, tmp, base1, length1, base2, length2);
+        } else {
+            mergeHi(array, tmp, base1, length1, base2, length2);
+        }
+    }
+
+    /**
+     * Intercala da esquerda para a direita copiando a primeira sequência (a menor) para {@code tmp}.
+     * Depois de {@link #MIN_GALLOP} vitórias seguidas de uma sequência, o trecho restante dela que
+     * também vence é localizado por galope e copiado em bloco.
+     */
+    private static <T extends Comparable<T>> void mergeLo(T[] array, T[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base1, tmp, 0, length1);
+        int left = 0;
+        int right = base2;
+        int end = base2 + length2;
+        int dest = base1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left < length1 && right < end) {
+            if (SortUtils.less(array[right], tmp[left])) {
+                array[dest++] = array[right++];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right < end) {
+                    int stop = gallopLower(array, right, end, tmp[left]);
+                    System.arraycopy(array, right, array, dest, stop - right);
+                    dest += stop - right;
+                    right = stop;
+                    rightWins = 0;
+                }
+            } else {
+                array[dest++] = tmp[left++];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left < length1) {
+                    int stop = gallopUpper(tmp, left, length1, array[right]);
+                    System.arraycopy(tmp, left, array, dest, stop - left);
+                    dest += stop - left;
+                    left = stop;
+                    leftWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, left, array, dest, length1 - left);
+    }
+
+    /**
+     * Intercala da direita para a esquerda copiando a segunda sequência (a menor) para {@code tmp}.
+     * Em caso de empate o elemento da segunda sequência é colocado primeiro no fim, o que mantém a
+     * estabilidade.
+     */
+    private static <T extends Comparable<T>> void mergeHi(T[] array, T[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base2, tmp, 0, length2);
+        int left = base1 + length1 - 1;
+        int right = length2 - 1;
+        int dest = base2 + length2 - 1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left >= base1 && right >= 0) {
+            if (SortUtils.greater(array[left], tmp[right])) {
+                array[dest--] = array[left--];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left >= base1) {
+                    int start = gallopUpperFromEnd(array, base1, left + 1, tmp[right]);
+                    int count = left + 1 - start;
+                    System.arraycopy(array, start, array, dest - count + 1, count);
+                    dest -= count;
+                    left = start - 1;
+                    leftWins = 0;
+                }
+            } else {
+                array[dest--] = tmp[right--];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right >= 0) {
+                    int start = gallopLowerFromEnd(tmp, 0, right + 1, array[left]);
+                    int count = right + 1 - start;
+                    System.arraycopy(tmp, start, array, dest - count + 1, count);
+                    dest -= count;
+                    right = start - 1;
+                    rightWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, 0, array, dest - right, right + 1);
+    }
+
+    /**
+     * Primeira posição de {@code array[from, to)} cujo elemento não é menor que {@code key},
+     * sondando a partir do início com passos exponenciais e refinando por busca binária.
+     */
+    private static <T extends Comparable<T>> int gallopLower(T[] array, int from, int to, T key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && SortUtils.less(array[probe], key)) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (SortUtils.less(array[mid], key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Primeira posição de {@code array[from, to)} cujo elemento é maior que {@code key},
+     * sondando a partir do início.
+     */
+    private static <T extends Comparable<T>> int gallopUpper(T[] array, int from, int to, T key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && !SortUtils.greater(array[probe], key)) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (SortUtils.greater(array[mid], key)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Igual a {@link #gallopLower}, mas sondando a partir do fim do intervalo.
+     */
+    private static <T extends Comparable<T>> int gallopLowerFromEnd(T[] array, int from, int to, T key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && !SortUtils.less(array[probe], key)) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (SortUtils.less(array[mid], key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Igual a {@link #gallopUpper}, mas sondando a partir do fim do intervalo.
+     */
+    private static <T extends Comparable<T>> int gallopUpperFromEnd(T[] array, int from, int to, T key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && SortUtils.greater(array[probe], key)) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (SortUtils.greater(array[mid], key)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        int length = array.length;
+        if (length < 2) {
+            return array;
+        }
+        if (length < MIN_MERGE) {
+            binaryInsertionSort(array, 0, length, countRunAndMakeAscending(array, 0, length));
+            return array;
+        }
+        int[] tmp = new int[length >>> 1];
+        int[] runBase = new int[MAX_RUNS];
+        int[] runLength = new int[MAX_RUNS];
+        int runs = 0;
+        int minRun = minRunLength(length);
+        int lo = 0;
+        while (lo < length) {
+            int runEnd = countRunAndMakeAscending(array, lo, length);
+            if (runEnd - lo < minRun) {
+                int forced = Math.min(length, lo + minRun);
+                binaryInsertionSort(array, lo, forced, runEnd);
+                runEnd = forced;
+            }
+            runBase[runs] = lo;
+            runLength[runs] = runEnd - lo;
+            runs++;
+            runs = mergeCollapse(array, tmp, runBase, runLength, runs);
+            lo = runEnd;
+        }
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                i--;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return array;
+    }
+
+    private static int countRunAndMakeAscending(int[] array, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return hi;
+        }
+        if (array[runHi++] < array[lo]) {
+            while (runHi < hi && array[runHi] < array[runHi - 1]) {
+                runHi++;
+            }
+            SortUtils.flip(array, lo, runHi - 1);
+        } else {
+            while (runHi < hi && array[runHi] >= array[runHi - 1]) {
+                runHi++;
+            }
+        }
+        return runHi;
+    }
+
+    private static void binaryInsertionSort(int[] array, int lo, int hi, int start) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            int pivot = array[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < array[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    private static int mergeCollapse(int[] array, int[] tmp, int[] runBase, int[] runLength, int runs) {
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1]
+                    || i > 1 && runLength[i - 2] <= runLength[i] + runLength[i - 1]) {
+                if (runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+            } else if (runLength[i] > runLength[i + 1]) {
+                break;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return runs;
+    }
+
+    private static void mergeAt(int[] array, int[] tmp, int[] runBase, int[] runLength, int i, int runs) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == runs - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        int start = gallopUpper(array, base1, base1 + length1, array[base2]);
+        length1 -= start - base1;
+        base1 = start;
+        if (length1 == 0) {
+            return;
+        }
+        length2 = gallopLower(array, base2, base2 + length2, array[base1 + length1 - 1]) - base2;
+        if (length2 == 0) {
+            return;
+        }
+        if (length1 <= length2) {
+            mergeLo(array, tmp, base1, length1, base2, length2);
+        } else {
+            mergeHi(array, tmp, base1, length1, base2, length2);
+        }
+    }
+
+    private static void mergeLo(int[] array, int[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base1, tmp, 0, length1);
+        int left = 0;
+        int right = base2;
+        int end = base2 + length2;
+        int dest = base1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left < length1 && right < end) {
+            if (array[right] < tmp[left]) {
+                array[dest++] = array[right++];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right < end) {
+                    int stop = gallopLower(array, right, end, tmp[left]);
+                    System.arraycopy(array, right, array, dest, stop - right);
+                    dest += stop - right;
+                    right = stop;
+                    rightWins = 0;
+                }
+            } else {
+                array[dest++] = tmp[left++];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left < length1) {
+                    int stop = gallopUpper(tmp, left, length1, array[right]);
+                    System.arraycopy(tmp, left, array, dest, stop - left);
+                    dest += stop - left;
+                    left = stop;
+                    leftWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, left, array, dest, length1 - left);
+    }
+
+    private static void mergeHi(int[] array, int[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base2, tmp, 0, length2);
+        int left = base1 + length1 - 1;
+        int right = length2 - 1;
+        int dest = base2 + length2 - 1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left >= base1 && right >= 0) {
+            if (array[left] > tmp[right]) {
+                array[dest--] = array[left--];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left >= base1) {
+                    int start = gallopUpperFromEnd(array, base1, left + 1, tmp[right]);
+                    int count = left + 1 - start;
+                    System.arraycopy(array, start, array, dest - count + 1, count);
+                    dest -= count;
+                    left = start - 1;
+                    leftWins = 0;
+                }
+            } else {
+                array[dest--] = tmp[right--];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right >= 0) {
+                    int start = gallopLowerFromEnd(tmp, 0, right + 1, array[left]);
+                    int count = right + 1 - start;
+                    System.arraycopy(tmp, start, array, dest - count + 1, count);
+                    dest -= count;
+                    right = start - 1;
+                    rightWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, 0, array, dest - right, right + 1);
+    }
+
+    private static int gallopLower(int[] array, int from, int to, int key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && array[probe] < key) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopUpper(int[] array, int from, int to, int key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && array[probe] <= key) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] > key) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopLowerFromEnd(int[] array, int from, int to, int key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && array[probe] >= key) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopUpperFromEnd(int[] array, int from, int to, int key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && array[probe] > key) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] > key) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        int length = array.length;
+        if (length < 2) {
+            return array;
+        }
+        if (length < MIN_MERGE) {
+            binaryInsertionSort(array, 0, length, countRunAndMakeAscending(array, 0, length));
+            return array;
+        }
+        long[] tmp = new long[length >>> 1];
+        int[] runBase = new int[MAX_RUNS];
+        int[] runLength = new int[MAX_RUNS];
+        int runs = 0;
+        int minRun = minRunLength(length);
+        int lo = 0;
+        while (lo < length) {
+            int runEnd = countRunAndMakeAscending(array, lo, length);
+            if (runEnd - lo < minRun) {
+                int forced = Math.min(length, lo + minRun);
+                binaryInsertionSort(array, lo, forced, runEnd);
+                runEnd = forced;
+            }
+            runBase[runs] = lo;
+            runLength[runs] = runEnd - lo;
+            runs++;
+            runs = mergeCollapse(array, tmp, runBase, runLength, runs);
+            lo = runEnd;
+        }
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                i--;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return array;
+    }
+
+    private static int countRunAndMakeAscending(long[] array, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return hi;
+        }
+        if (array[runHi++] < array[lo]) {
+            while (runHi < hi && array[runHi] < array[runHi - 1]) {
+                runHi++;
+            }
+            SortUtils.flip(array, lo, runHi - 1);
+        } else {
+            while (runHi < hi && array[runHi] >= array[runHi - 1]) {
+                runHi++;
+            }
+        }
+        return runHi;
+    }
+
+    private static void binaryInsertionSort(long[] array, int lo, int hi, int start) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            long pivot = array[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < array[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    private static int mergeCollapse(long[] array, long[] tmp, int[] runBase, int[] runLength, int runs) {
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1]
+                    || i > 1 && runLength[i - 2] <= runLength[i] + runLength[i - 1]) {
+                if (runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+            } else if (runLength[i] > runLength[i + 1]) {
+                break;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return runs;
+    }
+
+    private static void mergeAt(long[] array, long[] tmp, int[] runBase, int[] runLength, int i, int runs) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == runs - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        int start = gallopUpper(array, base1, base1 + length1, array[base2]);
+        length1 -= start - base1;
+        base1 = start;
+        if (length1 == 0) {
+            return;
+        }
+        length2 = gallopLower(array, base2, base2 + length2, array[base1 + length1 - 1]) - base2;
+        if (length2 == 0) {
+            return;
+        }
+        if (length1 <= length2) {
+            mergeLo(array, tmp, base1, length1, base2, length2);
+        } else {
+            mergeHi(array, tmp, base1, length1, base2, length2);
+        }
+    }
+
+    private static void mergeLo(long[] array, long[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base1, tmp, 0, length1);
+        int left = 0;
+        int right = base2;
+        int end = base2 + length2;
+        int dest = base1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left < length1 && right < end) {
+            if (array[right] < tmp[left]) {
+                array[dest++] = array[right++];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right < end) {
+                    int stop = gallopLower(array, right, end, tmp[left]);
+                    System.arraycopy(array, right, array, dest, stop - right);
+                    dest += stop - right;
+                    right = stop;
+                    rightWins = 0;
+                }
+            } else {
+                array[dest++] = tmp[left++];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left < length1) {
+                    int stop = gallopUpper(tmp, left, length1, array[right]);
+                    System.arraycopy(tmp, left, array, dest, stop - left);
+                    dest += stop - left;
+                    left = stop;
+                    leftWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, left, array, dest, length1 - left);
+    }
+
+    private static void mergeHi(long[] array, long[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base2, tmp, 0, length2);
+        int left = base1 + length1 - 1;
+        int right = length2 - 1;
+        int dest = base2 + length2 - 1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left >= base1 && right >= 0) {
+            if (array[left] > tmp[right]) {
+                array[dest--] = array[left--];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left >= base1) {
+                    int start = gallopUpperFromEnd(array, base1, left + 1, tmp[right]);
+                    int count = left + 1 - start;
+                    System.arraycopy(array, start, array, dest - count + 1, count);
+                    dest -= count;
+                    left = start - 1;
+                    leftWins = 0;
+                }
+            } else {
+                array[dest--] = tmp[right--];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right >= 0) {
+                    int start = gallopLowerFromEnd(tmp, 0, right + 1, array[left]);
+                    int count = right + 1 - start;
+                    System.arraycopy(tmp, start, array, dest - count + 1, count);
+                    dest -= count;
+                    right = start - 1;
+                    rightWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, 0, array, dest - right, right + 1);
+    }
+
+    private static int gallopLower(long[] array, int from, int to, long key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && array[probe] < key) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopUpper(long[] array, int from, int to, long key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && array[probe] <= key) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] > key) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopLowerFromEnd(long[] array, int from, int to, long key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && array[probe] >= key) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopUpperFromEnd(long[] array, int from, int to, long key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && array[probe] > key) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] > key) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public double[] sort(double[] array) {
+        int length = array.length;
+        if (length < 2) {
+            return array;
+        }
+        if (length < MIN_MERGE) {
+            binaryInsertionSort(array, 0, length, countRunAndMakeAscending(array, 0, length));
+            return array;
+        }
+        double[] tmp = new double[length >>> 1];
+        int[] runBase = new int[MAX_RUNS];
+        int[] runLength = new int[MAX_RUNS];
+        int runs = 0;
+        int minRun = minRunLength(length);
+        int lo = 0;
+        while (lo < length) {
+            int runEnd = countRunAndMakeAscending(array, lo, length);
+            if (runEnd - lo < minRun) {
+                int forced = Math.min(length, lo + minRun);
+                binaryInsertionSort(array, lo, forced, runEnd);
+                runEnd = forced;
+            }
+            runBase[runs] = lo;
+            runLength[runs] = runEnd - lo;
+            runs++;
+            runs = mergeCollapse(array, tmp, runBase, runLength, runs);
+            lo = runEnd;
+        }
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                i--;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return array;
+    }
+
+    private static int countRunAndMakeAscending(double[] array, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return hi;
+        }
+        if (Double.compare(array[runHi++], array[lo]) < 0) {
+            while (runHi < hi && Double.compare(array[runHi], array[runHi - 1]) < 0) {
+                runHi++;
+            }
+            SortUtils.flip(array, lo, runHi - 1);
+        } else {
+            while (runHi < hi && Double.compare(array[runHi], array[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi;
+    }
+
+    private static void binaryInsertionSort(double[] array, int lo, int hi, int start) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            double pivot = array[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (Double.compare(pivot, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    private static int mergeCollapse(double[] array, double[] tmp, int[] runBase, int[] runLength, int runs) {
+        while (runs > 1) {
+            int i = runs - 2;
+            if (i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1]
+                    || i > 1 && runLength[i - 2] <= runLength[i] + runLength[i - 1]) {
+                if (runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+            } else if (runLength[i] > runLength[i + 1]) {
+                break;
+            }
+            mergeAt(array, tmp, runBase, runLength, i, runs--);
+        }
+        return runs;
+    }
+
+    private static void mergeAt(double[] array, double[] tmp, int[] runBase, int[] runLength, int i, int runs) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == runs - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        int start = gallopUpper(array, base1, base1 + length1, array[base2]);
+        length1 -= start - base1;
+        base1 = start;
+        if (length1 == 0) {
+            return;
+        }
+        length2 = gallopLower(array, base2, base2 + length2, array[base1 + length1 - 1]) - base2;
+        if (length2 == 0) {
+            return;
+        }
+        if (length1 <= length2) {
+            mergeLo(array, tmp, base1, length1, base2, length2);
+        } else {
+            mergeHi(array, tmp, base1, length1, base2, length2);
+        }
+    }
+
+    private static void mergeLo(double[] array, double[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base1, tmp, 0, length1);
+        int left = 0;
+        int right = base2;
+        int end = base2 + length2;
+        int dest = base1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left < length1 && right < end) {
+            if (Double.compare(array[right], tmp[left]) < 0) {
+                array[dest++] = array[right++];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right < end) {
+                    int stop = gallopLower(array, right, end, tmp[left]);
+                    System.arraycopy(array, right, array, dest, stop - right);
+                    dest += stop - right;
+                    right = stop;
+                    rightWins = 0;
+                }
+            } else {
+                array[dest++] = tmp[left++];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left < length1) {
+                    int stop = gallopUpper(tmp, left, length1, array[right]);
+                    System.arraycopy(tmp, left, array, dest, stop - left);
+                    dest += stop - left;
+                    left = stop;
+                    leftWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, left, array, dest, length1 - left);
+    }
+
+    private static void mergeHi(double[] array, double[] tmp, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base2, tmp, 0, length2);
+        int left = base1 + length1 - 1;
+        int right = length2 - 1;
+        int dest = base2 + length2 - 1;
+        int leftWins = 0;
+        int rightWins = 0;
+        while (left >= base1 && right >= 0) {
+            if (Double.compare(array[left], tmp[right]) > 0) {
+                array[dest--] = array[left--];
+                rightWins = 0;
+                if (++leftWins >= MIN_GALLOP && left >= base1) {
+                    int start = gallopUpperFromEnd(array, base1, left + 1, tmp[right]);
+                    int count = left + 1 - start;
+                    System.arraycopy(array, start, array, dest - count + 1, count);
+                    dest -= count;
+                    left = start - 1;
+                    leftWins = 0;
+                }
+            } else {
+                array[dest--] = tmp[right--];
+                leftWins = 0;
+                if (++rightWins >= MIN_GALLOP && right >= 0) {
+                    int start = gallopLowerFromEnd(tmp, 0, right + 1, array[left]);
+                    int count = right + 1 - start;
+                    System.arraycopy(tmp, start, array, dest - count + 1, count);
+                    dest -= count;
+                    right = start - 1;
+                    rightWins = 0;
+                }
+            }
+        }
+        System.arraycopy(tmp, 0, array, dest - right, right + 1);
+    }
+
+    private static int gallopLower(double[] array, int from, int to, double key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && Double.compare(array[probe], key) < 0) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(array[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopUpper(double[] array, int from, int to, double key) {
+        int lo = from;
+        int probe = from;
+        int step = 1;
+        while (probe < to && Double.compare(array[probe], key) <= 0) {
+            lo = probe + 1;
+            probe = to - probe <= step ? to : probe + step;
+            step <<= 1;
+        }
+        int hi = probe;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(array[mid], key) > 0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopLowerFromEnd(double[] array, int from, int to, double key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && Double.compare(array[probe], key) >= 0) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(array[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int gallopUpperFromEnd(double[] array, int from, int to, double key) {
+        int hi = to;
+        int probe = to - 1;
+        int step = 1;
+        while (probe >= from && Double.compare(array[probe], key) > 0) {
+            hi = probe;
+            probe = probe - from < step ? from - 1 : probe - step;
+            step <<= 1;
+        }
+        int lo = probe + 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(array[mid], key) > 0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Tamanho mínimo de sequência: um valor entre {@code MIN_MERGE / 2} e {@code MIN_MERGE} tal que
+     * {@code length / minRun} seja uma potência de dois ou um pouco menor, o que equilibra as
+     * intercalações finais.
+     */
+    static int minRunLength(int length) {
+        int remainder = 0;
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+}
@@ -1,12 +1,86 @@
 package br.edu.infnet.bubblesort;
 
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
+ * Bubble sort estável, com um modo paralelo opcional.
+ *
+ * <p>No modo paralelo arrays a partir de um tamanho mínimo são ordenados por transposição
+ * par-ímpar: cada fase compara pares disjuntos de vizinhos ({@code (0,1), (2,3), ...} nas fases
+ * pares e {@code (1,2), (3,4), ...} nas ímpares), divididos entre tarefas de um {@link ForkJoinPool}
+ * que terminam todas antes da fase seguinte. Como só vizinhos estritamente fora de ordem são trocados, o
+ * resultado é o mesmo do modo sequencial, inclusive a estabilidade, e a ordenação termina assim
+ * que uma fase par e uma ímpar seguidas não fazem nenhuma troca.
+ *
  * @author Varun Upadhyay (https://github.com/varunu28)
  * @author Podshivalov Nikita (https://github.com/nikitap492)
  * @see SortAlgorithm
  */
 class BubbleSort implements SortAlgorithm {
 
+    /**
+     * Tamanho padrão a partir do qual o modo paralelo é usado.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 12;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int parallelThreshold;
+
+    /**
+     * Cria o bubble sort sequencial.
+     */
+    BubbleSort() {
+        this(1, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Cria o bubble sort com transposição par-ímpar paralela para arrays grandes, no
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param parallelism número de trechos ordenados em paralelo em cada fase
+     */
+    BubbleSort(int parallelism) {
+        this(parallelism, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Cria o bubble sort com transposição par-ímpar paralela no {@link ForkJoinPool#commonPool()}.
+     *
+     * @param parallelism       número de trechos ordenados em paralelo em cada fase
+     * @param parallelThreshold tamanho a partir do qual o modo paralelo é usado
+     */
+    BubbleSort(int parallelism, int parallelThreshold) {
+        this(ForkJoinPool.commonPool(), parallelism, parallelThreshold);
+    }
+
+    /**
+     * Cria o bubble sort com transposição par-ímpar paralela, dividindo cada fase em tantos trechos
+     * quanto o paralelismo do pool.
+     *
+     * @param pool              pool que executa as fases
+     * @param parallelThreshold tamanho a partir do qual o modo paralelo é usado
+     */
+    BubbleSort(ForkJoinPool pool, int parallelThreshold) {
+        this(pool, Objects.requireNonNull(pool, "pool não pode ser nulo").getParallelism(), parallelThreshold);
+    }
+
+    private BubbleSort(ForkJoinPool pool, int parallelism, int parallelThreshold) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism deve ser positivo");
+        }
+        if (parallelThreshold < 2) {
+            throw new IllegalArgumentException("parallelThreshold deve ser maior ou igual a 2");
+        }
+        this.pool = Objects.requireNonNull(pool, "pool não pode ser nulo");
+        this.parallelism = parallelism;
+        this.parallelThreshold = parallelThreshold;
+    }
+
     /**
      * Implementa o algoritmo bubble sort genérico.
      *
@@ -16,6 +90,19 @@ class BubbleSort implements SortAlgorithm {
      */
     @Override
     public <T extends Comparable<T>> T[] sort(T[] array) {
+        if (isParallel(array.length)) {
+            OddEvenTransposition.run(pool, array.length, parallelism, (from, to) -> {
+                boolean swapped = false;
+                for (int j = from; j < to; j += 2) {
+                    if (SortUtils.greater(array[j], array[j + 1])) {
+                        SortUtils.swap(array, j, j + 1);
+                        swapped = true;
+                    }
+                }
+                return swapped;
+            });
+            return array;
+        }
         for (int i = 1, size = array.length; i < size; ++i) {
             boolean swapped = false;
             for (int j = 0; j < size - i; ++j) {
@@ -30,4 +117,224 @@ class BubbleSort implements SortAlgorithm {
         }
         return array;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Ordena listas {@link RandomAccess} trocando os elementos diretamente na lista, sem cópia.
+     * Outras listas usam a implementação padrão da interface.
+     *
+     * @param list a lista a ser ordenada.
+     * @param <T> o tipo dos elementos na lista.
+     * @return a mesma lista, ordenada.
+     */
+    @Override
+    public <T extends Comparable<T>> List<T> sortInPlace(List<T> list) {
+        if (!(list instanceof RandomAccess)) {
+            return SortAlgorithm.super.sortInPlace(list);
+        }
+        for (int i = 1, size = list.size(); i < size; ++i) {
+            boolean swapped = false;
+            for (int j = 0; j < size - i; ++j) {
+                T current = list.get(j);
+                T next = list.get(j + 1);
+                if (SortUtils.greater(current, next)) {
+                    list.set(j, next);
+                    list.set(j + 1, current);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Versão especializada para {@code int}, sem boxing nem chamadas a {@code compareTo}.
+     *
+     * @param array o array a ser ordenado.
+     * @return o array ordenado.
+     */
+    @Override
+    public int[] sort(int[] array) {
+        if (isParallel(array.length)) {
+            OddEvenTransposition.run(pool, array.length, parallelism, (from, to) -> {
+                boolean swapped = false;
+                for (int j = from; j < to; j += 2) {
+                    if (array[j] > array[j + 1]) {
+                        SortUtils.swap(array, j, j + 1);
+                        swapped = true;
+                    }
+                }
+                return swapped;
+            });
+            return array;
+        }
+        for (int i = 1, size = array.length; i < size; ++i) {
+            boolean swapped = false;
+            for (int j = 0; j < size - i; ++j) {
+                if (array[j] > array[j + 1]) {
+                    SortUtils.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Versão especializada para {@code long}, sem boxing nem chamadas a {@code compareTo}.
+     *
+     * @param array o array a ser ordenado.
+     * @return o array ordenado.
+     */
+    @Override
+    public long[] sort(long[] array) {
+        if (isParallel(array.length)) {
+            OddEvenTransposition.run(pool, array.length, parallelism, (from, to) -> {
+                boolean swapped = false;
+                for (int j = from; j < to; j += 2) {
+                    if (array[j] > array[j + 1]) {
+                        SortUtils.swap(array, j, j + 1);
+                        swapped = true;
+                    }
+                }
+                return swapped;
+            });
+            return array;
+        }
+        for (int i = 1, size = array.length; i < size; ++i) {
+            boolean swapped = false;
+            for (int j = 0; j < size - i; ++j) {
+                if (array[j] > array[j + 1]) {
+                    SortUtils.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Versão especializada para {@code double}, sem boxing. Usa {@link Double#compare}
+     * para manter a mesma ordem de {@code Double.compareTo}.
+     *
+     * @param array o array a ser ordenado.
+     * @return o array ordenado.
+     */
+    @Override
+    public double[] sort(double[] array) {
+        if (isParallel(array.length)) {
+            OddEvenTransposition.run(pool, array.length, parallelism, (from, to) -> {
+                boolean swapped = false;
+                for (int j = from; j < to; j += 2) {
+                    if (Double.compare(array[j], array[j + 1]) > 0) {
+                        SortUtils.swap(array, j, j + 1);
+                        swapped = true;
+                    }
+                }
+                return swapped;
+            });
+            return array;
+        }
+        for (int i = 1, size = array.length; i < size; ++i) {
+            boolean swapped = false;
+            for (int j = 0; j < size - i; ++j) {
+                if (Double.compare(array[j], array[j + 1]) > 0) {
+                    SortUtils.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+        return array;
+    }
+
+    private boolean isParallel(int length) {
+        return parallelism > 1 && length >= parallelThreshold;
+    }
+
+    /**
+     * Compara e troca os pares que começam nas posições {@code from, from + 2, ...} anteriores a {@code to}.
+     */
+    @FunctionalInterface
+    private interface PhaseKernel {
+        /**
+         * @return true se algum par foi trocado
+         */
+        boolean run(int from, int to);
+    }
+
+    /**
+     * Coordena as fases da transposição par-ímpar no pool. Cada tarefa é dona de um trecho de tamanho
+     * par do array, de forma que os pares de uma mesma fase nunca se sobreponham; a fase seguinte só
+     * começa depois que todas as tarefas da anterior terminaram, o que garante a visibilidade das
+     * trocas. As tarefas são reaproveitadas entre as fases e uma exceção numa delas encerra a ordenação.
+     */
+    private static final class OddEvenTransposition extends RecursiveAction {
+        private final int length;
+        private final PhaseTask[] tasks;
+
+        private OddEvenTransposition(int length, int workers, PhaseKernel kernel) {
+            this.length = length;
+            int chunk = ((length + workers - 1) / workers + 1) & ~1;
+            this.tasks = new PhaseTask[workers];
+            for (int w = 0; w < workers; w++) {
+                int from = w * chunk;
+                tasks[w] = new PhaseTask(kernel, from, Math.min(from + chunk, length - 1));
+            }
+        }
+
+        static void run(ForkJoinPool pool, int length, int parallelism, PhaseKernel kernel) {
+            int workers = Math.min(parallelism, (length + 1) / 2);
+            pool.invoke(new OddEvenTransposition(length, workers, kernel));
+        }
+
+        @Override
+        protected void compute() {
+            int quietPhases = 0;
+            for (int phase = 0; phase <= length && quietPhases < 2; phase++) {
+                for (PhaseTask task : tasks) {
+                    task.reinitialize();
+                    task.offset = phase & 1;
+                }
+                invokeAll(tasks);
+                boolean any = false;
+                for (PhaseTask task : tasks) {
+                    any |= task.swapped;
+                }
+                quietPhases = any ? 0 : quietPhases + 1;
+            }
+        }
+    }
+
+    /**
+     * Executa uma fase sobre o trecho de uma tarefa.
+     */
+    private static final class PhaseTask extends RecursiveAction {
+        private final PhaseKernel kernel;
+        private final int from;
+        private final int to;
+        private int offset;
+        private boolean swapped;
+
+        private PhaseTask(PhaseKernel kernel, int from, int to) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            swapped = kernel.run(from + offset, to);
+        }
+    }
+}
@@ -0,0 +1,712 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Valores distintos de um array, em ordem crescente, com o número de ocorrências de cada um.
+ *
+ * <p>Substitui ordenar uma cópia, remover repetições e contar numa segunda lista. Para {@code int},
+ * {@code long} e {@code double}, os valores são contados primeiro numa tabela hash de endereçamento
+ * aberto, sem objetos por elemento; se a entrada tiver poucos valores distintos, só eles são
+ * ordenados no fim. Se a tabela passar do limite de valores distintos, a contagem é abandonada e uma
+ * cópia da entrada é ordenada por {@link RadixSort} e contada numa única leitura. Entradas grandes
+ * são divididas em blocos contados em tabelas próprias, em paralelo, que depois são somadas. Como um
+ * bloco sozinho pode ter menos valores distintos que o limite, antes disso o número de valores
+ * distintos da entrada é estimado por uma amostra e, se a estimativa passar do limite, a entrada vai
+ * direto para a ordenação.
+ *
+ * <p>Arrays de {@link Comparable} são sempre ordenados (de forma estável) e contados; o
+ * representante de cada grupo é a primeira ocorrência na entrada. Os valores {@code double} seguem a
+ * ordem e a igualdade de {@link Double#compare}: todos os {@code NaN} são contados juntos e
+ * {@code -0.0} é distinto de {@code 0.0}.
+ */
+final class DistinctCounts {
+
+    /**
+     * Tamanho padrão a partir do qual a contagem é feita em paralelo.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Maior número de valores distintos contados na tabela hash.
+     */
+    static final int MAX_HASHED = 1 << 16;
+
+    private static final int MIN_HASHED = 64;
+    private static final int CHUNK = 1 << 14;
+    private static final int SAMPLE_SIZE = 1 << 10;
+
+    private DistinctCounts() {
+    }
+
+    /**
+     * Contagem de valores {@code int}.
+     */
+    static final class IntCounts {
+        private final int[] keys;
+        private final int[] counts;
+
+        private IntCounts(int[] keys, int[] counts) {
+            this.keys = keys;
+            this.counts = counts;
+        }
+
+        /** Número de valores distintos. */
+        int size() {
+            return keys.length;
+        }
+
+        /** O {@code i}-ésimo menor valor distinto. */
+        int key(int i) {
+            return keys[i];
+        }
+
+        /** Ocorrências do {@code i}-ésimo menor valor distinto. */
+        int count(int i) {
+            return counts[i];
+        }
+
+        /** Cópia dos valores distintos, em ordem crescente. */
+        int[] keys() {
+            return keys.clone();
+        }
+
+        /** Cópia das ocorrências, na ordem de {@link #keys()}. */
+        int[] counts() {
+            return counts.clone();
+        }
+    }
+
+    /**
+     * Contagem de valores {@code long}.
+     */
+    static final class LongCounts {
+        private final long[] keys;
+        private final int[] counts;
+
+        private LongCounts(long[] keys, int[] counts) {
+            this.keys = keys;
+            this.counts = counts;
+        }
+
+        /** Número de valores distintos. */
+        int size() {
+            return keys.length;
+        }
+
+        /** O {@code i}-ésimo menor valor distinto. */
+        long key(int i) {
+            return keys[i];
+        }
+
+        /** Ocorrências do {@code i}-ésimo menor valor distinto. */
+        int count(int i) {
+            return counts[i];
+        }
+
+        /** Cópia dos valores distintos, em ordem crescente. */
+        long[] keys() {
+            return keys.clone();
+        }
+
+        /** Cópia das ocorrências, na ordem de {@link #keys()}. */
+        int[] counts() {
+            return counts.clone();
+        }
+    }
+
+    /**
+     * Contagem de valores {@code double}.
+     */
+    static final class DoubleCounts {
+        private final double[] keys;
+        private final int[] counts;
+
+        private DoubleCounts(double[] keys, int[] counts) {
+            this.keys = keys;
+            this.counts = counts;
+        }
+
+        /** Número de valores distintos. */
+        int size() {
+            return keys.length;
+        }
+
+        /** O {@code i}-ésimo menor valor distinto. */
+        double key(int i) {
+            return keys[i];
+        }
+
+        /** Ocorrências do {@code i}-ésimo menor valor distinto. */
+        int count(int i) {
+            return counts[i];
+        }
+
+        /** Cópia dos valores distintos, em ordem crescente. */
+        double[] keys() {
+            return keys.clone();
+        }
+
+        /** Cópia das ocorrências, na ordem de {@link #keys()}. */
+        int[] counts() {
+            return counts.clone();
+        }
+    }
+
+    /**
+     * Contagem de objetos.
+     *
+     * @param <T> o tipo dos elementos
+     */
+    static final class Counts<T> {
+        private final T[] keys;
+        private final int[] counts;
+
+        private Counts(T[] keys, int[] counts) {
+            this.keys = keys;
+            this.counts = counts;
+        }
+
+        /** Número de valores distintos. */
+        int size() {
+            return keys.length;
+        }
+
+        /** O {@code i}-ésimo menor valor distinto. */
+        T key(int i) {
+            return keys[i];
+        }
+
+        /** Ocorrências do {@code i}-ésimo menor valor distinto. */
+        int count(int i) {
+            return counts[i];
+        }
+
+        /** Cópia dos valores distintos, em ordem crescente. */
+        T[] keys() {
+            return keys.clone();
+        }
+
+        /** Cópia das ocorrências, na ordem de {@link #keys()}. */
+        int[] counts() {
+            return counts.clone();
+        }
+    }
+
+    static IntCounts of(int[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Conta os valores distintos do array, sem modificá-lo.
+     *
+     * @param array             o array de entrada
+     * @param pool              pool usado na contagem e na ordenação paralelas
+     * @param parallelThreshold tamanho a partir do qual a contagem é feita em paralelo
+     * @return os valores distintos em ordem crescente e as ocorrências de cada um
+     */
+    static IntCounts of(int[] array, ForkJoinPool pool, int parallelThreshold) {
+        checkArguments(pool, parallelThreshold);
+        int limit = hashLimit(array.length);
+        IntTable table;
+        if (array.length < parallelThreshold) {
+            table = IntTable.count(array, 0, array.length, limit);
+        } else if (estimatedDistinct(array) > limit) {
+            table = null;
+        } else {
+            table = pool.invoke(new IntCountTask(array, 0, array.length, limit));
+        }
+        if (table != null) {
+            return table.sorted();
+        }
+        int[] sorted = new RadixSort(pool, parallelThreshold).sort(array.clone());
+        int distinct = 0;
+        int[] counts = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i] == sorted[distinct - 1]) {
+                counts[distinct - 1]++;
+            } else {
+                sorted[distinct] = sorted[i];
+                counts[distinct++] = 1;
+            }
+        }
+        return new IntCounts(Arrays.copyOf(sorted, distinct), Arrays.copyOf(counts, distinct));
+    }
+
+    static LongCounts of(long[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Conta os valores distintos do array, sem modificá-lo.
+     *
+     * @param array             o array de entrada
+     * @param pool              pool usado na contagem e na ordenação paralelas
+     * @param parallelThreshold tamanho a partir do qual a contagem é feita em paralelo
+     * @return os valores distintos em ordem crescente e as ocorrências de cada um
+     */
+    static LongCounts of(long[] array, ForkJoinPool pool, int parallelThreshold) {
+        checkArguments(pool, parallelThreshold);
+        int limit = hashLimit(array.length);
+        LongTable table;
+        if (array.length < parallelThreshold) {
+            table = LongTable.count(array, 0, array.length, limit);
+        } else if (estimatedDistinct(array) > limit) {
+            table = null;
+        } else {
+            table = pool.invoke(new LongCountTask(array, 0, array.length, limit));
+        }
+        if (table != null) {
+            return table.sorted();
+        }
+        long[] sorted = new RadixSort(pool, parallelThreshold).sort(array.clone());
+        int distinct = 0;
+        int[] counts = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i] == sorted[distinct - 1]) {
+                counts[distinct - 1]++;
+            } else {
+                sorted[distinct] = sorted[i];
+                counts[distinct++] = 1;
+            }
+        }
+        return new LongCounts(Arrays.copyOf(sorted, distinct), Arrays.copyOf(counts, distinct));
+    }
+
+    static DoubleCounts of(double[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Conta os valores distintos do array, sem modificá-lo. Cada valor é convertido numa chave
+     * {@code long} com a mesma ordem de {@link Double#compare}, como no {@link RadixSort}, e as
+     * chaves são contadas como em {@link #of(long[], ForkJoinPool, int)}.
+     *
+     * @param array             o array de entrada
+     * @param pool              pool usado na contagem e na ordenação paralelas
+     * @param parallelThreshold tamanho a partir do qual a contagem é feita em paralelo
+     * @return os valores distintos em ordem crescente e as ocorrências de cada um
+     */
+    static DoubleCounts of(double[] array, ForkJoinPool pool, int parallelThreshold) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < keys.length; i++) {
+            long bits = Double.doubleToLongBits(array[i]);
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        LongCounts counts = of(keys, pool, parallelThreshold);
+        double[] values = new double[counts.size()];
+        for (int i = 0; i < values.length; i++) {
+            long key = counts.keys[i];
+            values[i] = Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+        }
+        return new DoubleCounts(values, counts.counts);
+    }
+
+    static <T extends Comparable<T>> Counts<T> of(T[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Conta os valores distintos do array, sem modificá-lo, ordenando uma cópia de forma estável e
+     * agrupando os elementos iguais segundo {@code compareTo}.
+     *
+     * @param array             o array de entrada
+     * @param pool              pool usado na ordenação paralela
+     * @param parallelThreshold tamanho a partir do qual a cópia é ordenada em paralelo
+     * @param <T>               o tipo dos elementos
+     * @return os valores distintos em ordem crescente e as ocorrências de cada um
+     */
+    static <T extends Comparable<T>> Counts<T> of(T[] array, ForkJoinPool pool, int parallelThreshold) {
+        checkArguments(pool, parallelThreshold);
+        SortAlgorithm algorithm = array.length < parallelThreshold
+                ? new AdaptiveMergeSort()
+                : new ParallelMergeSort(pool, ParallelMergeSort.DEFAULT_CUTOFF);
+        T[] sorted = algorithm.sort(array.clone());
+        int distinct = 0;
+        int[] counts = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i].compareTo(sorted[distinct - 1]) == 0) {
+                counts[distinct - 1]++;
+            } else {
+                sorted[distinct] = sorted[i];
+                counts[distinct++] = 1;
+            }
+        }
+        return new Counts<>(Arrays.copyOf(sorted, distinct), Arrays.copyOf(counts, distinct));
+    }
+
+    private static void checkArguments(ForkJoinPool pool, int parallelThreshold) {
+        Objects.requireNonNull(pool, "pool não pode ser nulo");
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold deve ser positivo");
+        }
+    }
+
+    /**
+     * Limite de valores distintos na tabela: acima de um oitavo da entrada, ordenar a cópia inteira
+     * custa menos que manter e ordenar a tabela.
+     */
+    private static int hashLimit(int length) {
+        return Math.min(MAX_HASHED, Math.max(MIN_HASHED, length >>> 3));
+    }
+
+    /**
+     * Estima o número de valores distintos do array por uma amostra de {@value #SAMPLE_SIZE} posições
+     * pseudoaleatórias (veja {@link #estimatedDistinct(int, int[])}).
+     */
+    static double estimatedDistinct(int[] array) {
+        if (array.length == 0) {
+            return 0;
+        }
+        IntTable sample = new IntTable(SAMPLE_SIZE);
+        long seed = array.length * 0x9E3779B97F4A7C15L;
+        for (int k = 0; k < SAMPLE_SIZE; k++) {
+            seed = next(seed);
+            sample.add(array[(int) ((seed >>> 1) % array.length)], 1);
+        }
+        return estimatedDistinct(sample.size, sample.counts);
+    }
+
+    /**
+     * Estima o número de valores distintos do array por uma amostra de {@value #SAMPLE_SIZE} posições
+     * pseudoaleatórias (veja {@link #estimatedDistinct(int, int[])}).
+     */
+    static double estimatedDistinct(long[] array) {
+        if (array.length == 0) {
+            return 0;
+        }
+        LongTable sample = new LongTable(SAMPLE_SIZE);
+        long seed = array.length * 0x9E3779B97F4A7C15L;
+        for (int k = 0; k < SAMPLE_SIZE; k++) {
+            seed = next(seed);
+            sample.add(array[(int) ((seed >>> 1) % array.length)], 1);
+        }
+        return estimatedDistinct(sample.size, sample.counts);
+    }
+
+    /**
+     * Estimador de Chao1 com correção de viés: os valores distintos da amostra mais
+     * {@code f1 (f1 - 1) / (2 (f2 + 1))}, onde {@code f1} e {@code f2} são os valores vistos uma e
+     * duas vezes. Com poucos valores distintos quase todos se repetem na amostra e a estimativa fica
+     * perto de {@code distinct}; com muitos, quase todos são vistos uma única vez e ela cresce com o
+     * quadrado da amostra.
+     */
+    private static double estimatedDistinct(int distinct, int[] counts) {
+        long once = 0;
+        long twice = 0;
+        for (int count : counts) {
+            if (count == 1) {
+                once++;
+            } else if (count == 2) {
+                twice++;
+            }
+        }
+        return distinct + once * (once - 1) / (2.0 * (twice + 1));
+    }
+
+    private static long next(long seed) {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return seed;
+    }
+
+    /**
+     * Tabela hash de endereçamento aberto com sondagem linear de chaves {@code int} para contadores.
+     * Uma posição está livre quando o seu contador é 0.
+     */
+    private static final class IntTable {
+        private final int limit;
+        private int[] keys = new int[16];
+        private int[] counts = new int[16];
+        private int size;
+
+        IntTable(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * Conta {@code array[from, to)}.
+         *
+         * @return a tabela, ou {@code null} se houver mais que {@code limit} valores distintos
+         */
+        static IntTable count(int[] array, int from, int to, int limit) {
+            IntTable table = new IntTable(limit);
+            for (int i = from; i < to; i++) {
+                if (!table.add(array[i], 1)) {
+                    return null;
+                }
+            }
+            return table;
+        }
+
+        /**
+         * Soma {@code count} ao contador da chave.
+         *
+         * @return {@code false} se a chave for nova e a tabela já tiver {@code limit} chaves
+         */
+        boolean add(int key, int count) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (counts[i] != 0) {
+                if (keys[i] == key) {
+                    counts[i] += count;
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+            if (size == limit) {
+                return false;
+            }
+            keys[i] = key;
+            counts[i] = count;
+            if (++size > keys.length >>> 1) {
+                grow();
+            }
+            return true;
+        }
+
+        /**
+         * Soma os contadores da outra tabela a esta.
+         *
+         * @return {@code false} se o limite for ultrapassado
+         */
+        boolean addAll(IntTable other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.counts[i] != 0 && !add(other.keys[i], other.counts[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        IntCounts sorted() {
+            int[] distinct = new int[size];
+            int n = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (counts[i] != 0) {
+                    distinct[n++] = keys[i];
+                }
+            }
+            new DualPivotQuickSort().sort(distinct);
+            int[] sortedCounts = new int[size];
+            for (int i = 0; i < size; i++) {
+                sortedCounts[i] = get(distinct[i]);
+            }
+            return new IntCounts(distinct, sortedCounts);
+        }
+
+        private int get(int key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return counts[i];
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new int[oldKeys.length << 1];
+            counts = new int[oldKeys.length << 1];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldCounts[j] != 0) {
+                    int i = hash(oldKeys[j]) & mask;
+                    while (counts[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    counts[i] = oldCounts[j];
+                }
+            }
+        }
+
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * Tabela hash de endereçamento aberto com sondagem linear de chaves {@code long} para contadores.
+     * Uma posição está livre quando o seu contador é 0.
+     */
+    private static final class LongTable {
+        private final int limit;
+        private long[] keys = new long[16];
+        private int[] counts = new int[16];
+        private int size;
+
+        LongTable(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * Conta {@code array[from, to)}.
+         *
+         * @return a tabela, ou {@code null} se houver mais que {@code limit} valores distintos
+         */
+        static LongTable count(long[] array, int from, int to, int limit) {
+            LongTable table = new LongTable(limit);
+            for (int i = from; i < to; i++) {
+                if (!table.add(array[i], 1)) {
+                    return null;
+                }
+            }
+            return table;
+        }
+
+        /**
+         * Soma {@code count} ao contador da chave.
+         *
+         * @return {@code false} se a chave for nova e a tabela já tiver {@code limit} chaves
+         */
+        boolean add(long key, int count) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (counts[i] != 0) {
+                if (keys[i] == key) {
+                    counts[i] += count;
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+            if (size == limit) {
+                return false;
+            }
+            keys[i] = key;
+            counts[i] = count;
+            if (++size > keys.length >>> 1) {
+                grow();
+            }
+            return true;
+        }
+
+        /**
+         * Soma os contadores da outra tabela a esta.
+         *
+         * @return {@code false} se o limite for ultrapassado
+         */
+        boolean addAll(LongTable other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.counts[i] != 0 && !add(other.keys[i], other.counts[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        LongCounts sorted() {
+            long[] distinct = new long[size];
+            int n = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (counts[i] != 0) {
+                    distinct[n++] = keys[i];
+                }
+            }
+            new DualPivotQuickSort().sort(distinct);
+            int[] sortedCounts = new int[size];
+            for (int i = 0; i < size; i++) {
+                sortedCounts[i] = get(distinct[i]);
+            }
+            return new LongCounts(distinct, sortedCounts);
+        }
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return counts[i];
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new long[oldKeys.length << 1];
+            counts = new int[oldKeys.length << 1];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldCounts[j] != 0) {
+                    int i = hash(oldKeys[j]) & mask;
+                    while (counts[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    counts[i] = oldCounts[j];
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Conta {@code [from, to)} em blocos paralelos e soma as tabelas dos blocos.
+     */
+    private static final class IntCountTask extends RecursiveTask<IntTable> {
+        private final int[] array;
+        private final int from;
+        private final int to;
+        private final int limit;
+
+        IntCountTask(int[] array, int from, int to, int limit) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected IntTable compute() {
+            if (to - from <= CHUNK) {
+                return IntTable.count(array, from, to, limit);
+            }
+            int mid = (from + to) >>> 1;
+            IntCountTask right = new IntCountTask(array, mid, to, limit);
+            right.fork();
+            IntTable left = new IntCountTask(array, from, mid, limit).compute();
+            IntTable other = right.join();
+            return left != null && other != null && left.addAll(other) ? left : null;
+        }
+    }
+
+    /**
+     * Conta {@code [from, to)} em blocos paralelos e soma as tabelas dos blocos.
+     */
+    private static final class LongCountTask extends RecursiveTask<LongTable> {
+        private final long[] array;
+        private final int from;
+        private final int to;
+        private final int limit;
+
+        LongCountTask(long[] array, int from, int to, int limit) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected LongTable compute() {
+            if (to - from <= CHUNK) {
+                return LongTable.count(array, from, to, limit);
+            }
+            int mid = (from + to) >>> 1;
+            LongCountTask right = new LongCountTask(array, mid, to, limit);
+            right.fork();
+            LongTable left = new LongCountTask(array, from, mid, limit).compute();
+            LongTable other = right.join();
+            return left != null && other != null && left.addAll(other) ? left : null;
+        }
+    }
+}
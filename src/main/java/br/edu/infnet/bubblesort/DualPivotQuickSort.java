@@ -0,0 +1,546 @@
+package br.edu.infnet.bubblesort;
+
+/**
+ * Quicksort introspectivo com dois pivôs.
+ *
+ * <p>Cada partição escolhe dois pivôs entre cinco amostras igualmente espaçadas e divide o trecho
+ * em três partes ({@code < p1}, {@code p1..p2} e {@code > p2}), como no quicksort de Yaroslavskiy.
+ * Quando os dois pivôs são iguais, sinal de muitas repetições, usa uma partição em três vias em
+ * torno de um único pivô. Trechos pequenos são ordenados por insertion sort e, se a profundidade
+ * de recursão passar de {@code 2 log n}, o trecho restante é ordenado com heapsort, o que garante
+ * O(n log n) mesmo em entradas adversárias. Nos arrays primitivos, as folhas podem usar a rede de
+ * ordenação vetorizada do {@link SortingNetwork} no lugar do insertion sort.
+ *
+ * <p>A ordenação é feita no lugar, sem alocar memória, e não é estável.
+ *
+ * @see SortAlgorithm
+ */
+class DualPivotQuickSort implements SortAlgorithm {
+
+    /**
+     * Abaixo deste tamanho o trecho é ordenado por insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Ordena o array no lugar, sem alocar memória.
+     *
+     * @param array o array a ser ordenado.
+     * @return o array ordenado.
+     */
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        if (array.length > 1) {
+            sort(array, 0, array.length - 1, depthLimit(array.length));
+        }
+        return array;
+    }
+
+    /**
+     * Ordena {@code array[left, right]}. Os trechos das extremidades são ordenados recursivamente e o
+     * trecho central é processado no próprio laço, o que limita a pilha de chamadas.
+     */
+    private static <T extends Comparable<T>> void sort(T[] array, int left, int right, int depth) {
+        while (true) {
+            int length = right - left + 1;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                SortUtils.insertionSort(array, left, right + 1);
+                return;
+            }
+            if (depth-- == 0) {
+                SortUtils.heapSort(array, left, right + 1);
+                return;
+            }
+
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+            sortFive(array, e1, e2, e3, e4, e5);
+
+            if (!SortUtils.less(array[e2], array[e4])) {
+                // Pivôs iguais indicam muitas repetições: partição em três vias em torno da mediana.
+                T pivot = array[e3];
+                int less = left;
+                int great = right;
+                for (int k = less; k <= great; ++k) {
+                    T current = array[k];
+                    if (SortUtils.less(current, pivot)) {
+                        array[k] = array[less];
+                        array[less] = current;
+                        ++less;
+                    } else if (SortUtils.greater(current, pivot)) {
+                        while (SortUtils.greater(array[great], pivot)) {
+                            --great;
+                        }
+                        if (SortUtils.less(array[great], pivot)) {
+                            array[k] = array[less];
+                            array[less] = array[great];
+                            ++less;
+                        } else {
+                            array[k] = array[great];
+                        }
+                        array[great] = current;
+                        --great;
+                    }
+                }
+                sort(array, left, less - 1, depth);
+                left = great + 1;
+                continue;
+            }
+
+            T pivot1 = array[e2];
+            T pivot2 = array[e4];
+            // As extremidades vão para o lugar dos pivôs; array[e3] serve de sentinela para as buscas.
+            array[e2] = array[left];
+            array[e4] = array[right];
+            int less = left;
+            int great = right;
+            while (SortUtils.less(array[++less], pivot1)) {
+            }
+            while (SortUtils.greater(array[--great], pivot2)) {
+            }
+            outer:
+            for (int k = less - 1; ++k <= great; ) {
+                T current = array[k];
+                if (SortUtils.less(current, pivot1)) {
+                    array[k] = array[less];
+                    array[less] = current;
+                    ++less;
+                } else if (SortUtils.greater(current, pivot2)) {
+                    while (SortUtils.greater(array[great], pivot2)) {
+                        if (great-- == k) {
+                            break outer;
+                        }
+                    }
+                    if (SortUtils.less(array[great], pivot1)) {
+                        array[k] = array[less];
+                        array[less] = array[great];
+                        ++less;
+                    } else {
+                        array[k] = array[great];
+                    }
+                    array[great] = current;
+                    --great;
+                }
+            }
+            array[left] = array[less - 1];
+            array[less - 1] = pivot1;
+            array[right] = array[great + 1];
+            array[great + 1] = pivot2;
+
+            sort(array, left, less - 2, depth);
+            sort(array, great + 2, right, depth);
+            left = less;
+            right = great;
+        }
+    }
+
+    /**
+     * Ordena as cinco amostras com uma rede de ordenação de nove comparações.
+     */
+    private static <T extends Comparable<T>> void sortFive(T[] array, int e1, int e2, int e3, int e4, int e5) {
+        compareAndSwap(array, e1, e2);
+        compareAndSwap(array, e4, e5);
+        compareAndSwap(array, e3, e5);
+        compareAndSwap(array, e3, e4);
+        compareAndSwap(array, e2, e5);
+        compareAndSwap(array, e1, e4);
+        compareAndSwap(array, e1, e3);
+        compareAndSwap(array, e2, e4);
+        compareAndSwap(array, e2, e3);
+    }
+
+    private static <T extends Comparable<T>> void compareAndSwap(T[] array, int i, int j) {
+        if (SortUtils.less(array[j], array[i])) {
+            SortUtils.swap(array, i, j);
+        }
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        if (array.length > 1) {
+            sort(array, 0, array.length - 1, depthLimit(array.length));
+        }
+        return array;
+    }
+
+    private static void sort(int[] array, int left, int right, int depth) {
+        while (true) {
+            int length = right - left + 1;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                if (SortingNetwork.LEAF_ENABLED) {
+                    SortingNetwork.sort(array, left, right + 1);
+                } else {
+                    SortUtils.insertionSort(array, left, right + 1);
+                }
+                return;
+            }
+            if (depth-- == 0) {
+                SortUtils.heapSort(array, left, right + 1);
+                return;
+            }
+
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+            sortFive(array, e1, e2, e3, e4, e5);
+
+            if (array[e2] >= array[e4]) {
+                int pivot = array[e3];
+                int less = left;
+                int great = right;
+                for (int k = less; k <= great; ++k) {
+                    int current = array[k];
+                    if (current < pivot) {
+                        array[k] = array[less];
+                        array[less] = current;
+                        ++less;
+                    } else if (current > pivot) {
+                        while (array[great] > pivot) {
+                            --great;
+                        }
+                        if (array[great] < pivot) {
+                            array[k] = array[less];
+                            array[less] = array[great];
+                            ++less;
+                        } else {
+                            array[k] = array[great];
+                        }
+                        array[great] = current;
+                        --great;
+                    }
+                }
+                sort(array, left, less - 1, depth);
+                left = great + 1;
+                continue;
+            }
+
+            int pivot1 = array[e2];
+            int pivot2 = array[e4];
+            array[e2] = array[left];
+            array[e4] = array[right];
+            int less = left;
+            int great = right;
+            while (array[++less] < pivot1) {
+            }
+            while (array[--great] > pivot2) {
+            }
+            outer:
+            for (int k = less - 1; ++k <= great; ) {
+                int current = array[k];
+                if (current < pivot1) {
+                    array[k] = array[less];
+                    array[less] = current;
+                    ++less;
+                } else if (current > pivot2) {
+                    while (array[great] > pivot2) {
+                        if (great-- == k) {
+                            break outer;
+                        }
+                    }
+                    if (array[great] < pivot1) {
+                        array[k] = array[less];
+                        array[less] = array[great];
+                        ++less;
+                    } else {
+                        array[k] = array[great];
+                    }
+                    array[great] = current;
+                    --great;
+                }
+            }
+            array[left] = array[less - 1];
+            array[less - 1] = pivot1;
+            array[right] = array[great + 1];
+            array[great + 1] = pivot2;
+
+            sort(array, left, less - 2, depth);
+            sort(array, great + 2, right, depth);
+            left = less;
+            right = great;
+        }
+    }
+
+    private static void sortFive(int[] array, int e1, int e2, int e3, int e4, int e5) {
+        compareAndSwap(array, e1, e2);
+        compareAndSwap(array, e4, e5);
+        compareAndSwap(array, e3, e5);
+        compareAndSwap(array, e3, e4);
+        compareAndSwap(array, e2, e5);
+        compareAndSwap(array, e1, e4);
+        compareAndSwap(array, e1, e3);
+        compareAndSwap(array, e2, e4);
+        compareAndSwap(array, e2, e3);
+    }
+
+    private static void compareAndSwap(int[] array, int i, int j) {
+        if (array[j] < array[i]) {
+            SortUtils.swap(array, i, j);
+        }
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        if (array.length > 1) {
+            sort(array, 0, array.length - 1, depthLimit(array.length));
+        }
+        return array;
+    }
+
+    private static void sort(long[] array, int left, int right, int depth) {
+        while (true) {
+            int length = right - left + 1;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                if (SortingNetwork.LEAF_ENABLED) {
+                    SortingNetwork.sort(array, left, right + 1);
+                } else {
+                    SortUtils.insertionSort(array, left, right + 1);
+                }
+                return;
+            }
+            if (depth-- == 0) {
+                SortUtils.heapSort(array, left, right + 1);
+                return;
+            }
+
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+            sortFive(array, e1, e2, e3, e4, e5);
+
+            if (array[e2] >= array[e4]) {
+                long pivot = array[e3];
+                int less = left;
+                int great = right;
+                for (int k = less; k <= great; ++k) {
+                    long current = array[k];
+                    if (current < pivot) {
+                        array[k] = array[less];
+                        array[less] = current;
+                        ++less;
+                    } else if (current > pivot) {
+                        while (array[great] > pivot) {
+                            --great;
+                        }
+                        if (array[great] < pivot) {
+                            array[k] = array[less];
+                            array[less] = array[great];
+                            ++less;
+                        } else {
+                            array[k] = array[great];
+                        }
+                        array[great] = current;
+                        --great;
+                    }
+                }
+                sort(array, left, less - 1, depth);
+                left = great + 1;
+                continue;
+            }
+
+            long pivot1 = array[e2];
+            long pivot2 = array[e4];
+            array[e2] = array[left];
+            array[e4] = array[right];
+            int less = left;
+            int great = right;
+            while (array[++less] < pivot1) {
+            }
+            while (array[--great] > pivot2) {
+            }
+            outer:
+            for (int k = less - 1; ++k <= great; ) {
+                long current = array[k];
+                if (current < pivot1) {
+                    array[k] = array[less];
+                    array[less] = current;
+                    ++less;
+                } else if (current > pivot2) {
+                    while (array[great] > pivot2) {
+                        if (great-- == k) {
+                            break outer;
+                        }
+                    }
+                    if (array[great] < pivot1) {
+                        array[k] = array[less];
+                        array[less] = array[great];
+                        ++less;
+                    } else {
+                        array[k] = array[great];
+                    }
+                    array[great] = current;
+                    --great;
+                }
+            }
+            array[left] = array[less - 1];
+            array[less - 1] = pivot1;
+            array[right] = array[great + 1];
+            array[great + 1] = pivot2;
+
+            sort(array, left, less - 2, depth);
+            sort(array, great + 2, right, depth);
+            left = less;
+            right = great;
+        }
+    }
+
+    private static void sortFive(long[] array, int e1, int e2, int e3, int e4, int e5) {
+        compareAndSwap(array, e1, e2);
+        compareAndSwap(array, e4, e5);
+        compareAndSwap(array, e3, e5);
+        compareAndSwap(array, e3, e4);
+        compareAndSwap(array, e2, e5);
+        compareAndSwap(array, e1, e4);
+        compareAndSwap(array, e1, e3);
+        compareAndSwap(array, e2, e4);
+        compareAndSwap(array, e2, e3);
+    }
+
+    private static void compareAndSwap(long[] array, int i, int j) {
+        if (array[j] < array[i]) {
+            SortUtils.swap(array, i, j);
+        }
+    }
+
+    @Override
+    public double[] sort(double[] array) {
+        if (array.length > 1) {
+            sort(array, 0, array.length - 1, depthLimit(array.length));
+        }
+        return array;
+    }
+
+    private static void sort(double[] array, int left, int right, int depth) {
+        while (true) {
+            int length = right - left + 1;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                if (SortingNetwork.LEAF_ENABLED) {
+                    SortingNetwork.sort(array, left, right + 1);
+                } else {
+                    SortUtils.insertionSort(array, left, right + 1);
+                }
+                return;
+            }
+            if (depth-- == 0) {
+                SortUtils.heapSort(array, left, right + 1);
+                return;
+            }
+
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+            sortFive(array, e1, e2, e3, e4, e5);
+
+            if (Double.compare(array[e2], array[e4]) >= 0) {
+                double pivot = array[e3];
+                int less = left;
+                int great = right;
+                for (int k = less; k <= great; ++k) {
+                    double current = array[k];
+                    if (Double.compare(current, pivot) < 0) {
+                        array[k] = array[less];
+                        array[less] = current;
+                        ++less;
+                    } else if (Double.compare(current, pivot) > 0) {
+                        while (Double.compare(array[great], pivot) > 0) {
+                            --great;
+                        }
+                        if (Double.compare(array[great], pivot) < 0) {
+                            array[k] = array[less];
+                            array[less] = array[great];
+                            ++less;
+                        } else {
+                            array[k] = array[great];
+                        }
+                        array[great] = current;
+                        --great;
+                    }
+                }
+                sort(array, left, less - 1, depth);
+                left = great + 1;
+                continue;
+            }
+
+            double pivot1 = array[e2];
+            double pivot2 = array[e4];
+            array[e2] = array[left];
+            array[e4] = array[right];
+            int less = left;
+            int great = right;
+            while (Double.compare(array[++less], pivot1) < 0) {
+            }
+            while (Double.compare(array[--great], pivot2) > 0) {
+            }
+            outer:
+            for (int k = less - 1; ++k <= great; ) {
+                double current = array[k];
+                if (Double.compare(current, pivot1) < 0) {
+                    array[k] = array[less];
+                    array[less] = current;
+                    ++less;
+                } else if (Double.compare(current, pivot2) > 0) {
+                    while (Double.compare(array[great], pivot2) > 0) {
+                        if (great-- == k) {
+                            break outer;
+                        }
+                    }
+                    if (Double.compare(array[great], pivot1) < 0) {
+                        array[k] = array[less];
+                        array[less] = array[great];
+                        ++less;
+                    } else {
+                        array[k] = array[great];
+                    }
+                    array[great] = current;
+                    --great;
+                }
+            }
+            array[left] = array[less - 1];
+            array[less - 1] = pivot1;
+            array[right] = array[great + 1];
+            array[great + 1] = pivot2;
+
+            sort(array, left, less - 2, depth);
+            sort(array, great + 2, right, depth);
+            left = less;
+            right = great;
+        }
+    }
+
+    private static void sortFive(double[] array, int e1, int e2, int e3, int e4, int e5) {
+        compareAndSwap(array, e1, e2);
+        compareAndSwap(array, e4, e5);
+        compareAndSwap(array, e3, e5);
+        compareAndSwap(array, e3, e4);
+        compareAndSwap(array, e2, e5);
+        compareAndSwap(array, e1, e4);
+        compareAndSwap(array, e1, e3);
+        compareAndSwap(array, e2, e4);
+        compareAndSwap(array, e2, e3);
+    }
+
+    private static void compareAndSwap(double[] array, int i, int j) {
+        if (Double.compare(array[j], array[i]) < 0) {
+            SortUtils.swap(array, i, j);
+        }
+    }
+
+    /**
+     * Profundidade máxima de partições antes do recurso ao heapsort: {@code 2 log n}.
+     */
+    static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+}
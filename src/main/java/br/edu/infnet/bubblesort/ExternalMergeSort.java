@@ -0,0 +1,326 @@
+package br.edu.infnet.bubblesort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Ordenação externa para volumes maiores que a memória disponível.
+ *
+ * <p>Os registros de entrada são acumulados até atingir o orçamento de memória, ordenados com o
+ * {@link SortAlgorithm} configurado e gravados como uma sequência ordenada num arquivo temporário,
+ * através de um {@link RecordCodec}. Ao final as sequências são intercaladas (k-way merge) lendo
+ * cada arquivo de forma incremental por um buffer, sem carregá-lo inteiro. Se houver mais
+ * sequências que o fan-in máximo, grupos consecutivos são intercalados em passagens intermediárias.
+ *
+ * <p>Se a entrada couber no orçamento, nada é gravado em disco. Em caso de empate, registros de
+ * sequências anteriores saem primeiro, então a ordenação é estável sempre que o algoritmo em memória
+ * também for.
+ *
+ * @param <T> o tipo dos registros
+ * @see RecordCodec
+ */
+class ExternalMergeSort<T extends Comparable<T>> {
+
+    /**
+     * Etapas reportadas ao {@link ProgressListener}.
+     */
+    enum Phase {
+        /** Uma sequência ordenada foi gravada em disco. */
+        SPILL,
+        /** Registros foram intercalados a partir das sequências em disco. */
+        MERGE,
+        /** Todos os registros foram entregues à saída. */
+        DONE
+    }
+
+    /**
+     * Recebe o andamento da ordenação.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+        /**
+         * @param phase   etapa atual
+         * @param records registros processados até agora na etapa
+         * @param runs    sequências gravadas em disco até agora
+         */
+        void onProgress(Phase phase, long records, int runs);
+    }
+
+    /**
+     * Número máximo padrão de sequências intercaladas de uma vez.
+     */
+    static final int DEFAULT_MAX_FAN_IN = 64;
+
+    private static final int MIN_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_BUFFER_SIZE = 1 << 20;
+    private static final long MERGE_PROGRESS_INTERVAL = 1 << 16;
+
+    private final SortAlgorithm algorithm;
+    private final RecordCodec<T> codec;
+    private final long memoryBudget;
+    private final Path tempDirectory;
+    private final ProgressListener listener;
+    private final int maxFanIn;
+
+    /**
+     * @param algorithm     algoritmo usado para ordenar cada bloco em memória
+     * @param codec         conversão dos registros para os arquivos temporários
+     * @param memoryBudget  bytes estimados de registros mantidos em memória por bloco
+     * @param tempDirectory diretório onde as sequências temporárias são criadas
+     */
+    ExternalMergeSort(SortAlgorithm algorithm, RecordCodec<T> codec, long memoryBudget, Path tempDirectory) {
+        this(algorithm, codec, memoryBudget, tempDirectory, (phase, records, runs) -> { }, DEFAULT_MAX_FAN_IN);
+    }
+
+    /**
+     * @param algorithm     algoritmo usado para ordenar cada bloco em memória
+     * @param codec         conversão dos registros para os arquivos temporários
+     * @param memoryBudget  bytes estimados de registros mantidos em memória por bloco
+     * @param tempDirectory diretório onde as sequências temporárias são criadas
+     * @param listener      recebe o andamento da ordenação
+     * @param maxFanIn      número máximo de sequências intercaladas de uma vez
+     */
+    ExternalMergeSort(SortAlgorithm algorithm, RecordCodec<T> codec, long memoryBudget, Path tempDirectory,
+                      ProgressListener listener, int maxFanIn) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget deve ser positivo");
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("maxFanIn deve ser maior ou igual a 2");
+        }
+        this.algorithm = Objects.requireNonNull(algorithm, "algorithm não pode ser nulo");
+        this.codec = Objects.requireNonNull(codec, "codec não pode ser nulo");
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = Objects.requireNonNull(tempDirectory, "tempDirectory não pode ser nulo");
+        this.listener = Objects.requireNonNull(listener, "listener não pode ser nulo");
+        this.maxFanIn = maxFanIn;
+    }
+
+    /**
+     * Ordena todos os registros da entrada e os entrega, em ordem, à saída.
+     *
+     * @param input  registros a serem ordenados
+     * @param output recebe os registros ordenados
+     * @return número de registros ordenados
+     * @throws IOException se a leitura ou escrita das sequências temporárias falhar
+     */
+    long sort(Iterator<? extends T> input, Consumer<? super T> output) throws IOException {
+        List<Run> runs = new ArrayList<>();
+        try {
+            List<T> chunk = new ArrayList<>();
+            long chunkSize = 0;
+            long records = 0;
+            while (input.hasNext()) {
+                T record = input.next();
+                chunk.add(record);
+                chunkSize += codec.estimatedSize(record);
+                records++;
+                if (chunkSize >= memoryBudget) {
+                    runs.add(spill(sortChunk(chunk)));
+                    chunk.clear();
+                    chunkSize = 0;
+                    listener.onProgress(Phase.SPILL, records, runs.size());
+                }
+            }
+            if (runs.isEmpty()) {
+                for (T record : sortChunk(chunk)) {
+                    output.accept(record);
+                }
+                listener.onProgress(Phase.DONE, records, 0);
+                return records;
+            }
+            if (!chunk.isEmpty()) {
+                runs.add(spill(sortChunk(chunk)));
+                listener.onProgress(Phase.SPILL, records, runs.size());
+            }
+            chunk = null;
+            while (runs.size() > maxFanIn) {
+                mergePass(runs);
+            }
+            long merged = merge(runs, output::accept);
+            listener.onProgress(Phase.DONE, merged, runs.size());
+            return records;
+        } finally {
+            for (Run run : runs) {
+                Files.deleteIfExists(run.path);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] sortChunk(List<T> chunk) {
+        return algorithm.sort(chunk.toArray((T[]) new Comparable[chunk.size()]));
+    }
+
+    /**
+     * Grava um bloco ordenado: a quantidade de registros seguida dos registros.
+     */
+    private Run spill(T[] sorted) throws IOException {
+        Path run = Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+        try (DataOutputStream out = openOutput(run)) {
+            out.writeLong(sorted.length);
+            for (T record : sorted) {
+                codec.write(out, record);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return new Run(run, sorted.length);
+    }
+
+    /**
+     * Substitui cada grupo consecutivo de até {@code maxFanIn} sequências pela intercalação delas,
+     * preservando a ordem entre grupos.
+     */
+    private void mergePass(List<Run> runs) throws IOException {
+        List<Run> merged = new ArrayList<>();
+        List<Path> created = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += maxFanIn) {
+                List<Run> group = runs.subList(from, Math.min(runs.size(), from + maxFanIn));
+                long records = 0;
+                for (Run run : group) {
+                    records += run.records;
+                }
+                Path path = Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+                created.add(path);
+                try (DataOutputStream out = openOutput(path)) {
+                    out.writeLong(records);
+                    merge(group, record -> codec.write(out, record));
+                }
+                merged.add(new Run(path, records));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path path : created) {
+                Files.deleteIfExists(path);
+            }
+            throw e;
+        }
+        for (Run run : runs) {
+            Files.deleteIfExists(run.path);
+        }
+        runs.clear();
+        runs.addAll(merged);
+    }
+
+    /**
+     * Intercala as sequências com uma fila de prioridade sobre o registro atual de cada uma.
+     *
+     * @return número de registros intercalados
+     */
+    private long merge(List<Run> runs, RecordSink<? super T> sink) throws IOException {
+        int bufferSize = (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, memoryBudget / (runs.size() + 1)));
+        List<RunCursor<T>> cursors = new ArrayList<>(runs.size());
+        try {
+            PriorityQueue<RunCursor<T>> queue = new PriorityQueue<>(runs.size());
+            for (Run run : runs) {
+                RunCursor<T> cursor = new RunCursor<>(run.path, codec, bufferSize, cursors.size());
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            long merged = 0;
+            while (!queue.isEmpty()) {
+                RunCursor<T> cursor = queue.poll();
+                sink.accept(cursor.head);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+                if (++merged % MERGE_PROGRESS_INTERVAL == 0) {
+                    listener.onProgress(Phase.MERGE, merged, runs.size());
+                }
+            }
+            listener.onProgress(Phase.MERGE, merged, runs.size());
+            return merged;
+        } finally {
+            for (RunCursor<T> cursor : cursors) {
+                cursor.close();
+            }
+        }
+    }
+
+    private DataOutputStream openOutput(Path run) throws IOException {
+        int bufferSize = (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, memoryBudget));
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), bufferSize));
+    }
+
+    /**
+     * Sequência gravada em disco e a quantidade de registros nela, conhecida desde a gravação.
+     */
+    private static final class Run {
+        private final Path path;
+        private final long records;
+
+        Run(Path path, long records) {
+            this.path = path;
+            this.records = records;
+        }
+    }
+
+    /**
+     * Destino de registros que pode lançar {@link IOException}.
+     */
+    @FunctionalInterface
+    private interface RecordSink<T> {
+        void accept(T record) throws IOException;
+    }
+
+    /**
+     * Leitura incremental de uma sequência em disco, mantendo apenas o registro atual em memória.
+     * Empates são desfeitos pela posição da sequência.
+     */
+    private static final class RunCursor<T extends Comparable<T>> implements Comparable<RunCursor<T>>, Closeable {
+        private final DataInputStream in;
+        private final RecordCodec<T> codec;
+        private final int index;
+        private long remaining;
+        private T head;
+
+        RunCursor(Path run, RecordCodec<T> codec, int bufferSize, int index) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), bufferSize));
+            this.codec = codec;
+            this.index = index;
+            try {
+                this.remaining = in.readLong();
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            head = codec.read(in);
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunCursor<T> other) {
+            int comparison = head.compareTo(other.head);
+            return comparison != 0 ? comparison : Integer.compare(index, other.index);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Decorador que mede cada chamada de outro {@link SortAlgorithm}.
+ *
+ * <p>Para cada chamada são registrados o tamanho da entrada, o tempo gasto e, se ligados, o número
+ * de sequências crescentes da entrada (1 se já estiver ordenada) e as comparações e trocas feitas por
+ * {@link SortUtils}. Os valores são acumulados em histogramas de potências de dois com contadores
+ * {@link LongAdder}, sem travas, e podem ser lidos a qualquer momento por {@link #snapshot()}.
+ *
+ * <p>As comparações e trocas são contadas só na thread que chamou, entre o início e o fim da
+ * chamada, por {@link SortUtils#startCounting()}: chamadas simultâneas em outras threads não se
+ * misturam, mas operações que o algoritmo medido fizer em outras threads (num pool, por exemplo) e
+ * caminhos primitivos não são contados. A contagem das sequências percorre a entrada inteira antes de
+ * ordenar, por isso fica desligada a menos que seja pedida.
+ *
+ * @see SortAlgorithm
+ */
+class InstrumentedSortAlgorithm implements SortAlgorithm {
+
+    /**
+     * Grandezas registradas por chamada.
+     */
+    enum Metric {
+        /** Tamanho da entrada. */
+        SIZE,
+        /** Tempo gasto, em nanossegundos. */
+        NANOS,
+        /** Comparações feitas por {@link SortUtils} na thread que chamou. */
+        COMPARISONS,
+        /** Trocas feitas por {@link SortUtils} na thread que chamou. */
+        SWAPS,
+        /** Sequências crescentes da entrada, só quando a contagem foi pedida. */
+        RUNS
+    }
+
+    /**
+     * Número de baldes de cada histograma: o balde 0 conta o valor 0 e o balde {@code k} conta os
+     * valores em {@code [2^(k-1), 2^k)}.
+     */
+    static final int BUCKETS = Long.SIZE;
+
+    private final SortAlgorithm delegate;
+    private final boolean countOperations;
+    private final boolean countRuns;
+    private final LongAdder calls = new LongAdder();
+    private final Histogram[] histograms = new Histogram[Metric.values().length];
+
+    /**
+     * Mede o algoritmo contando comparações e trocas, sem contar as sequências da entrada.
+     *
+     * @param delegate o algoritmo medido
+     */
+    InstrumentedSortAlgorithm(SortAlgorithm delegate) {
+        this(delegate, true, false);
+    }
+
+    /**
+     * Mede o algoritmo sem contar as sequências da entrada.
+     *
+     * @param delegate        o algoritmo medido
+     * @param countOperations se as comparações e trocas de cada chamada devem ser contadas
+     */
+    InstrumentedSortAlgorithm(SortAlgorithm delegate, boolean countOperations) {
+        this(delegate, countOperations, false);
+    }
+
+    /**
+     * @param delegate        o algoritmo medido
+     * @param countOperations se as comparações e trocas de cada chamada devem ser contadas
+     * @param countRuns       se as sequências crescentes da entrada devem ser contadas antes de ordenar
+     */
+    InstrumentedSortAlgorithm(SortAlgorithm delegate, boolean countOperations, boolean countRuns) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate não pode ser nulo");
+        this.countOperations = countOperations;
+        this.countRuns = countRuns;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        int runs = countRuns ? Math.max(1, Presortedness.of(array).runs()) : 0;
+        return measure(array.length, runs, () -> delegate.sort(array));
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        int runs = countRuns ? Math.max(1, Presortedness.of(array).runs()) : 0;
+        return measure(array.length, runs, () -> delegate.sort(array));
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        int runs = countRuns ? Math.max(1, Presortedness.of(array).runs()) : 0;
+        return measure(array.length, runs, () -> delegate.sort(array));
+    }
+
+    @Override
+    public double[] sort(double[] array) {
+        int runs = countRuns ? Math.max(1, Presortedness.of(array).runs()) : 0;
+        return measure(array.length, runs, () -> delegate.sort(array));
+    }
+
+    @Override
+    public <T extends Comparable<T>> List<T> sortInPlace(List<T> list) {
+        int runs = countRuns ? runs(list) : 0;
+        return measure(list.size(), runs, () -> delegate.sortInPlace(list));
+    }
+
+    /**
+     * Retorna os totais e histogramas acumulados até agora. Registros feitos durante a leitura podem
+     * aparecer só em parte.
+     *
+     * @return uma cópia dos valores atuais
+     */
+    Snapshot snapshot() {
+        long[][] buckets = new long[histograms.length][];
+        long[] totals = new long[histograms.length];
+        for (int i = 0; i < histograms.length; i++) {
+            buckets[i] = histograms[i].buckets();
+            totals[i] = histograms[i].total.sum();
+        }
+        return new Snapshot(calls.sum(), totals, buckets);
+    }
+
+    private <R> R measure(int length, int runs, Supplier<R> sort) {
+        SortUtils.OperationCounter counter = countOperations ? SortUtils.startCounting() : null;
+        long comparisons = counter == null ? 0 : counter.comparisons;
+        long swaps = counter == null ? 0 : counter.swaps;
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = sort.get();
+        } finally {
+            if (counter != null) {
+                SortUtils.stopCounting(counter);
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        calls.increment();
+        histograms[Metric.SIZE.ordinal()].record(length);
+        histograms[Metric.NANOS.ordinal()].record(nanos);
+        if (countRuns) {
+            histograms[Metric.RUNS.ordinal()].record(runs);
+        }
+        if (counter != null) {
+            histograms[Metric.COMPARISONS.ordinal()].record(counter.comparisons - comparisons);
+            histograms[Metric.SWAPS.ordinal()].record(counter.swaps - swaps);
+        }
+        return result;
+    }
+
+    /**
+     * Conta as sequências crescentes da lista percorrendo-a uma vez com o iterador.
+     */
+    private static <T extends Comparable<T>> int runs(List<T> list) {
+        int runs = 1;
+        Iterator<T> iterator = list.iterator();
+        if (iterator.hasNext()) {
+            T previous = iterator.next();
+            while (iterator.hasNext()) {
+                T current = iterator.next();
+                if (previous.compareTo(current) > 0) {
+                    runs++;
+                }
+                previous = current;
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Retorna o balde do histograma em que o valor é contado.
+     */
+    static int bucketOf(long value) {
+        return value <= 0 ? 0 : Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Histograma de potências de dois com contadores independentes por balde.
+     */
+    private static final class Histogram {
+        private final LongAdder[] counts = new LongAdder[BUCKETS];
+        private final LongAdder total = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            counts[bucketOf(value)].increment();
+            total.add(value);
+        }
+
+        long[] buckets() {
+            long[] buckets = new long[counts.length];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = counts[i].sum();
+            }
+            return buckets;
+        }
+    }
+
+    /**
+     * Cópia dos valores acumulados por um {@link InstrumentedSortAlgorithm}.
+     */
+    static final class Snapshot {
+        private final long calls;
+        private final long[] totals;
+        private final long[][] buckets;
+
+        Snapshot(long calls, long[] totals, long[][] buckets) {
+            this.calls = calls;
+            this.totals = totals;
+            this.buckets = buckets;
+        }
+
+        /** Número de chamadas medidas. */
+        long calls() {
+            return calls;
+        }
+
+        /** Soma da grandeza em todas as chamadas. */
+        long total(Metric metric) {
+            return totals[metric.ordinal()];
+        }
+
+        /** Contagem de chamadas por balde; veja {@link InstrumentedSortAlgorithm#BUCKETS}. */
+        long[] histogram(Metric metric) {
+            return buckets[metric.ordinal()].clone();
+        }
+
+        /** Média da grandeza nas chamadas em que foi registrada, ou 0 se em nenhuma. */
+        double mean(Metric metric) {
+            long recorded = 0;
+            for (long count : buckets[metric.ordinal()]) {
+                recorded += count;
+            }
+            return recorded == 0 ? 0 : (double) totals[metric.ordinal()] / recorded;
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Intercalação preguiçosa de várias fontes já ordenadas numa única sequência ordenada.
+ *
+ * <p>As fontes ficam nas folhas de uma árvore de perdedores (loser tree): cada nó interno guarda a
+ * fonte que perdeu a disputa naquele ponto e a raiz guarda a vencedora. Depois que um elemento é
+ * entregue, só o caminho da fonte vencedora até a raiz é refeito, com {@code log k} comparações.
+ * Assim, intercalar {@code n} elementos de {@code k} fontes custa O(n log k) e a memória usada é
+ * apenas o elemento atual de cada fonte.
+ *
+ * <p>Em caso de empate, o elemento da fonte de menor posição sai primeiro, então a intercalação é
+ * estável. No modo {@code distinct}, elementos iguais ao último entregue são descartados. Se alguma
+ * fonte não estiver ordenada, a ordem da saída não é definida.
+ */
+final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    /**
+     * Intercala iteradores ordenados, mantendo repetições.
+     *
+     * @param sources iteradores em ordem crescente
+     * @param <T>     o tipo dos elementos
+     * @return iterador sobre todos os elementos, em ordem
+     */
+    static <T extends Comparable<T>> Iterator<T> merge(List<? extends Iterator<? extends T>> sources) {
+        return merge(sources, false);
+    }
+
+    /**
+     * Intercala iteradores ordenados.
+     *
+     * @param sources  iteradores em ordem crescente
+     * @param distinct se elementos iguais ao anterior devem ser descartados
+     * @param <T>      o tipo dos elementos
+     * @return iterador sobre os elementos, em ordem
+     */
+    static <T extends Comparable<T>> Iterator<T> merge(List<? extends Iterator<? extends T>> sources,
+                                                       boolean distinct) {
+        return new ObjectMerge<>(new ArrayList<>(Objects.requireNonNull(sources, "sources não pode ser nulo")),
+                distinct);
+    }
+
+    /**
+     * Intercala arrays ordenados.
+     *
+     * @param distinct se elementos iguais ao anterior devem ser descartados
+     * @param arrays   arrays em ordem crescente
+     * @param <T>      o tipo dos elementos
+     * @return iterador sobre os elementos, em ordem
+     */
+    @SafeVarargs
+    static <T extends Comparable<T>> Iterator<T> merge(boolean distinct, T[]... arrays) {
+        List<Iterator<T>> sources = new ArrayList<>(arrays.length);
+        for (T[] array : arrays) {
+            sources.add(Arrays.asList(array).iterator());
+        }
+        return new ObjectMerge<>(sources, distinct);
+    }
+
+    /**
+     * Intercala arrays {@code int} ordenados, sem boxing.
+     *
+     * @param distinct se valores iguais ao anterior devem ser descartados
+     * @param arrays   arrays em ordem crescente
+     * @return iterador sobre os valores, em ordem
+     */
+    static PrimitiveIterator.OfInt merge(boolean distinct, int[]... arrays) {
+        List<PrimitiveIterator.OfInt> sources = new ArrayList<>(arrays.length);
+        for (int[] array : arrays) {
+            sources.add(Arrays.stream(array).iterator());
+        }
+        return mergeInts(sources, distinct);
+    }
+
+    /**
+     * Intercala iteradores {@code int} ordenados, sem boxing.
+     *
+     * @param sources  iteradores em ordem crescente
+     * @param distinct se valores iguais ao anterior devem ser descartados
+     * @return iterador sobre os valores, em ordem
+     */
+    static PrimitiveIterator.OfInt mergeInts(List<? extends PrimitiveIterator.OfInt> sources, boolean distinct) {
+        return new IntMerge(new ArrayList<>(Objects.requireNonNull(sources, "sources não pode ser nulo")), distinct);
+    }
+
+    /**
+     * Intercala arrays {@code long} ordenados, sem boxing.
+     *
+     * @param distinct se valores iguais ao anterior devem ser descartados
+     * @param arrays   arrays em ordem crescente
+     * @return iterador sobre os valores, em ordem
+     */
+    static PrimitiveIterator.OfLong merge(boolean distinct, long[]... arrays) {
+        List<PrimitiveIterator.OfLong> sources = new ArrayList<>(arrays.length);
+        for (long[] array : arrays) {
+            sources.add(Arrays.stream(array).iterator());
+        }
+        return mergeLongs(sources, distinct);
+    }
+
+    /**
+     * Intercala iteradores {@code long} ordenados, sem boxing.
+     *
+     * @param sources  iteradores em ordem crescente
+     * @param distinct se valores iguais ao anterior devem ser descartados
+     * @return iterador sobre os valores, em ordem
+     */
+    static PrimitiveIterator.OfLong mergeLongs(List<? extends PrimitiveIterator.OfLong> sources, boolean distinct) {
+        return new LongMerge(new ArrayList<>(Objects.requireNonNull(sources, "sources não pode ser nulo")), distinct);
+    }
+
+    /**
+     * Intercala arrays {@code double} ordenados pela ordem de {@link Double#compare}, sem boxing.
+     *
+     * @param distinct se valores iguais ao anterior devem ser descartados
+     * @param arrays   arrays em ordem crescente
+     * @return iterador sobre os valores, em ordem
+     */
+    static PrimitiveIterator.OfDouble merge(boolean distinct, double[]... arrays) {
+        List<PrimitiveIterator.OfDouble> sources = new ArrayList<>(arrays.length);
+        for (double[] array : arrays) {
+            sources.add(Arrays.stream(array).iterator());
+        }
+        return mergeDoubles(sources, distinct);
+    }
+
+    /**
+     * Intercala iteradores {@code double} ordenados pela ordem de {@link Double#compare}, sem boxing.
+     *
+     * @param sources  iteradores em ordem crescente
+     * @param distinct se valores iguais ao anterior devem ser descartados
+     * @return iterador sobre os valores, em ordem
+     */
+    static PrimitiveIterator.OfDouble mergeDoubles(List<? extends PrimitiveIterator.OfDouble> sources,
+                                                   boolean distinct) {
+        return new DoubleMerge(new ArrayList<>(Objects.requireNonNull(sources, "sources não pode ser nulo")),
+                distinct);
+    }
+
+    /**
+     * Árvore de perdedores sobre {@code k} fontes. {@code tree[0]} é a fonte vencedora e
+     * {@code tree[t]}, para {@code 1 <= t < k}, a perdedora do nó {@code t}; as folhas são os nós
+     * {@code k..2k-1}. Fontes esgotadas perdem para todas as outras.
+     */
+    private abstract static class LoserTree {
+        final int k;
+        final boolean distinct;
+        private final int[] tree;
+        private final boolean[] exhausted;
+        boolean hasLast;
+
+        LoserTree(int k, boolean distinct) {
+            this.k = k;
+            this.distinct = distinct;
+            this.tree = new int[Math.max(1, k)];
+            this.exhausted = new boolean[k];
+        }
+
+        /**
+         * Carrega o próximo elemento da fonte como atual.
+         *
+         * @return {@code false} se a fonte terminou
+         */
+        abstract boolean advance(int source);
+
+        /**
+         * Compara os elementos atuais de duas fontes.
+         */
+        abstract int compareHeads(int a, int b);
+
+        /**
+         * Indica se o elemento atual da fonte é igual ao último entregue.
+         */
+        abstract boolean equalsLast(int source);
+
+        /**
+         * Carrega o primeiro elemento de cada fonte e disputa todas as partidas de baixo para cima.
+         */
+        final void init() {
+            if (k == 0) {
+                return;
+            }
+            for (int i = 0; i < k; i++) {
+                exhausted[i] = !advance(i);
+            }
+            int[] winners = new int[2 * k];
+            for (int i = 0; i < k; i++) {
+                winners[k + i] = i;
+            }
+            for (int t = k - 1; t > 0; t--) {
+                int a = winners[2 * t];
+                int b = winners[2 * t + 1];
+                if (beats(a, b)) {
+                    winners[t] = a;
+                    tree[t] = b;
+                } else {
+                    winners[t] = b;
+                    tree[t] = a;
+                }
+            }
+            tree[0] = k == 1 ? 0 : winners[1];
+        }
+
+        /**
+         * Fonte cujo elemento atual é o próximo da saída, descartando repetições no modo distinto.
+         *
+         * @return a fonte, ou -1 se todas terminaram
+         */
+        final int peek() {
+            if (k == 0) {
+                return -1;
+            }
+            while (!exhausted[tree[0]] && distinct && hasLast && equalsLast(tree[0])) {
+                pop();
+            }
+            return exhausted[tree[0]] ? -1 : tree[0];
+        }
+
+        /**
+         * Retorna a fonte do próximo elemento da saída.
+         *
+         * @throws NoSuchElementException se todas as fontes terminaram
+         */
+        final int take() {
+            int source = peek();
+            if (source < 0) {
+                throw new NoSuchElementException();
+            }
+            return source;
+        }
+
+        /**
+         * Avança a fonte vencedora e refaz as partidas no caminho dela até a raiz.
+         */
+        final void pop() {
+            int winner = tree[0];
+            exhausted[winner] = !advance(winner);
+            for (int t = (winner + k) >>> 1; t > 0; t >>>= 1) {
+                if (beats(tree[t], winner)) {
+                    int loser = winner;
+                    winner = tree[t];
+                    tree[t] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        private boolean beats(int a, int b) {
+            if (exhausted[a] || exhausted[b]) {
+                return !exhausted[a];
+            }
+            int comparison = compareHeads(a, b);
+            return comparison < 0 || (comparison == 0 && a < b);
+        }
+    }
+
+    private static final class ObjectMerge<T extends Comparable<T>> extends LoserTree implements Iterator<T> {
+        private final List<? extends Iterator<? extends T>> sources;
+        private final Object[] heads;
+        private T last;
+
+        ObjectMerge(List<? extends Iterator<? extends T>> sources, boolean distinct) {
+            super(sources.size(), distinct);
+            this.sources = sources;
+            this.heads = new Object[sources.size()];
+            init();
+        }
+
+        @Override
+        boolean advance(int source) {
+            Iterator<? extends T> iterator = sources.get(source);
+            if (!iterator.hasNext()) {
+                heads[source] = null;
+                return false;
+            }
+            heads[source] = iterator.next();
+            return true;
+        }
+
+        @Override
+        int compareHeads(int a, int b) {
+            return head(a).compareTo(head(b));
+        }
+
+        @Override
+        boolean equalsLast(int source) {
+            return head(source).compareTo(last) == 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() >= 0;
+        }
+
+        @Override
+        public T next() {
+            int source = take();
+            last = head(source);
+            hasLast = true;
+            pop();
+            return last;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T head(int source) {
+            return (T) heads[source];
+        }
+    }
+
+    private static final class IntMerge extends LoserTree implements PrimitiveIterator.OfInt {
+        private final List<? extends PrimitiveIterator.OfInt> sources;
+        private final int[] heads;
+        private int last;
+
+        IntMerge(List<? extends PrimitiveIterator.OfInt> sources, boolean distinct) {
+            super(sources.size(), distinct);
+            this.sources = sources;
+            this.heads = new int[sources.size()];
+            init();
+        }
+
+        @Override
+        boolean advance(int source) {
+            PrimitiveIterator.OfInt iterator = sources.get(source);
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            heads[source] = iterator.nextInt();
+            return true;
+        }
+
+        @Override
+        int compareHeads(int a, int b) {
+            return Integer.compare(heads[a], heads[b]);
+        }
+
+        @Override
+        boolean equalsLast(int source) {
+            return heads[source] == last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() >= 0;
+        }
+
+        @Override
+        public int nextInt() {
+            int source = take();
+            last = heads[source];
+            hasLast = true;
+            pop();
+            return last;
+        }
+    }
+
+    private static final class LongMerge extends LoserTree implements PrimitiveIterator.OfLong {
+        private final List<? extends PrimitiveIterator.OfLong> sources;
+        private final long[] heads;
+        private long last;
+
+        LongMerge(List<? extends PrimitiveIterator.OfLong> sources, boolean distinct) {
+            super(sources.size(), distinct);
+            this.sources = sources;
+            this.heads = new long[sources.size()];
+            init();
+        }
+
+        @Override
+        boolean advance(int source) {
+            PrimitiveIterator.OfLong iterator = sources.get(source);
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            heads[source] = iterator.nextLong();
+            return true;
+        }
+
+        @Override
+        int compareHeads(int a, int b) {
+            return Long.compare(heads[a], heads[b]);
+        }
+
+        @Override
+        boolean equalsLast(int source) {
+            return heads[source] == last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() >= 0;
+        }
+
+        @Override
+        public long nextLong() {
+            int source = take();
+            last = heads[source];
+            hasLast = true;
+            pop();
+            return last;
+        }
+    }
+
+    private static final class DoubleMerge extends LoserTree implements PrimitiveIterator.OfDouble {
+        private final List<? extends PrimitiveIterator.OfDouble> sources;
+        private final double[] heads;
+        private double last;
+
+        DoubleMerge(List<? extends PrimitiveIterator.OfDouble> sources, boolean distinct) {
+            super(sources.size(), distinct);
+            this.sources = sources;
+            this.heads = new double[sources.size()];
+            init();
+        }
+
+        @Override
+        boolean advance(int source) {
+            PrimitiveIterator.OfDouble iterator = sources.get(source);
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            heads[source] = iterator.nextDouble();
+            return true;
+        }
+
+        @Override
+        int compareHeads(int a, int b) {
+            return Double.compare(heads[a], heads[b]);
+        }
+
+        @Override
+        boolean equalsLast(int source) {
+            return Double.compare(heads[source], last) == 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() >= 0;
+        }
+
+        @Override
+        public double nextDouble() {
+            int source = take();
+            last = heads[source];
+            hasLast = true;
+            pop();
+            return last;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordenação por uma chave extraída de cada elemento, calculada uma única vez.
+ *
+ * <p>Quando {@code compareTo} calcula a chave de ordenação a cada chamada, qualquer algoritmo paga
+ * esse custo a cada comparação. Aqui as chaves são extraídas para uma coluna ({@code long[]},
+ * {@code double[]} ou um array de {@link Comparable}), uma permutação de índices é ordenada pelas
+ * chaves já calculadas e, no fim, os elementos são movidos para as suas posições seguindo os ciclos
+ * da permutação, no próprio array.
+ *
+ * <p>Chaves {@code int} são combinadas com o índice num único {@code long} (chave nos 32 bits altos,
+ * índice nos baixos) e ordenadas por {@link RadixSort}; as demais chaves são ordenadas por um merge
+ * sort de índices. Todas as ordenações são estáveis e chaves {@code double} seguem a ordem de
+ * {@link Double#compare}. Com {@code parallel}, as chaves são extraídas com
+ * {@link Arrays#parallelSetAll}, então o extrator não pode depender da ordem das chamadas.
+ */
+final class KeySort {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private KeySort() {
+    }
+
+    static <T> T[] sortByInt(T[] array, ToIntFunction<? super T> key) {
+        return sortByInt(array, key, false);
+    }
+
+    /**
+     * Ordena o array pela chave {@code int} de cada elemento.
+     *
+     * @param array    o array a ser ordenado
+     * @param key      extrai a chave de um elemento, chamado uma vez por elemento
+     * @param parallel se as chaves devem ser extraídas em paralelo
+     * @param <T>      o tipo dos elementos
+     * @return o mesmo array, ordenado
+     */
+    static <T> T[] sortByInt(T[] array, ToIntFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(key, "key não pode ser nulo");
+        long[] packed = new long[array.length];
+        if (parallel) {
+            Arrays.parallelSetAll(packed, i -> (long) key.applyAsInt(array[i]) << 32 | i);
+        } else {
+            for (int i = 0; i < packed.length; i++) {
+                packed[i] = (long) key.applyAsInt(array[i]) << 32 | i;
+            }
+        }
+        new RadixSort().sort(packed);
+        int[] permutation = new int[packed.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = (int) packed[i];
+        }
+        return apply(array, permutation);
+    }
+
+    static <T> T[] sortByLong(T[] array, ToLongFunction<? super T> key) {
+        return sortByLong(array, key, false);
+    }
+
+    /**
+     * Ordena o array pela chave {@code long} de cada elemento.
+     *
+     * @param array    o array a ser ordenado
+     * @param key      extrai a chave de um elemento, chamado uma vez por elemento
+     * @param parallel se as chaves devem ser extraídas em paralelo
+     * @param <T>      o tipo dos elementos
+     * @return o mesmo array, ordenado
+     */
+    static <T> T[] sortByLong(T[] array, ToLongFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(key, "key não pode ser nulo");
+        long[] keys = new long[array.length];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> key.applyAsLong(array[i]));
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key.applyAsLong(array[i]);
+            }
+        }
+        return apply(array, sortIndices(keys));
+    }
+
+    static <T> T[] sortByDouble(T[] array, ToDoubleFunction<? super T> key) {
+        return sortByDouble(array, key, false);
+    }
+
+    /**
+     * Ordena o array pela chave {@code double} de cada elemento, na ordem de {@link Double#compare}.
+     * Cada chave é guardada como um {@code long} de mesma ordem, como no {@link RadixSort}.
+     *
+     * @param array    o array a ser ordenado
+     * @param key      extrai a chave de um elemento, chamado uma vez por elemento
+     * @param parallel se as chaves devem ser extraídas em paralelo
+     * @param <T>      o tipo dos elementos
+     * @return o mesmo array, ordenado
+     */
+    static <T> T[] sortByDouble(T[] array, ToDoubleFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(key, "key não pode ser nulo");
+        long[] keys = new long[array.length];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> sortableBits(key.applyAsDouble(array[i])));
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = sortableBits(key.applyAsDouble(array[i]));
+            }
+        }
+        return apply(array, sortIndices(keys));
+    }
+
+    static <T, K extends Comparable<? super K>> T[] sortBy(T[] array, Function<? super T, ? extends K> key) {
+        return sortBy(array, key, false);
+    }
+
+    /**
+     * Ordena o array pela chave {@link Comparable} de cada elemento.
+     *
+     * @param array    o array a ser ordenado
+     * @param key      extrai a chave de um elemento, chamado uma vez por elemento; não pode retornar
+     *                 {@code null}
+     * @param parallel se as chaves devem ser extraídas em paralelo
+     * @param <T>      o tipo dos elementos
+     * @param <K>      o tipo das chaves
+     * @return o mesmo array, ordenado
+     */
+    static <T, K extends Comparable<? super K>> T[] sortBy(T[] array, Function<? super T, ? extends K> key,
+                                                           boolean parallel) {
+        Objects.requireNonNull(key, "key não pode ser nulo");
+        Object[] keys = new Object[array.length];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> Objects.requireNonNull(key.apply(array[i]), "chave não pode ser nula"));
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = Objects.requireNonNull(key.apply(array[i]), "chave não pode ser nula");
+            }
+        }
+        return apply(array, sortIndices(keys));
+    }
+
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Move os elementos para que {@code array[k]} passe a ser o antigo {@code array[permutation[k]]},
+     * percorrendo cada ciclo da permutação com um único elemento guardado. A permutação é consumida:
+     * cada posição já resolvida é marcada apontando para si mesma.
+     */
+    private static <T> T[] apply(T[] array, int[] permutation) {
+        for (int start = 0; start < permutation.length; start++) {
+            if (permutation[start] == start) {
+                continue;
+            }
+            T first = array[start];
+            int current = start;
+            int next = permutation[current];
+            while (next != start) {
+                array[current] = array[next];
+                permutation[current] = current;
+                current = next;
+                next = permutation[current];
+            }
+            array[current] = first;
+            permutation[current] = current;
+        }
+        return array;
+    }
+
+    /**
+     * Permutação estável que ordena as chaves: {@code keys[p[0]] <= keys[p[1]] <= ...}.
+     */
+    private static int[] sortIndices(long[] keys) {
+        int[] indices = identity(keys.length);
+        mergeSort(indices, indices.clone(), 0, indices.length, keys);
+        return indices;
+    }
+
+    private static int[] sortIndices(Object[] keys) {
+        int[] indices = identity(keys.length);
+        mergeSort(indices, indices.clone(), 0, indices.length, keys);
+        return indices;
+    }
+
+    private static int[] identity(int length) {
+        int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * Ordena {@code indices[from, to)} pelas chaves usando {@code buffer}, que começa com o mesmo
+     * conteúdo, como fonte das metades; os papéis dos arrays se alternam a cada nível.
+     */
+    private static void mergeSort(int[] indices, int[] buffer, int from, int to, long[] keys) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int current = indices[i];
+                int j = i - 1;
+                while (j >= from && keys[indices[j]] > keys[current]) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = current;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(buffer, indices, from, mid, keys);
+        mergeSort(buffer, indices, mid, to, keys);
+        if (keys[buffer[mid - 1]] <= keys[buffer[mid]]) {
+            System.arraycopy(buffer, from, indices, from, to - from);
+            return;
+        }
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && keys[buffer[i]] <= keys[buffer[j]])) {
+                indices[k] = buffer[i++];
+            } else {
+                indices[k] = buffer[j++];
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void mergeSort(int[] indices, int[] buffer, int from, int to, Object[] keys) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int current = indices[i];
+                int j = i - 1;
+                while (j >= from && ((Comparable) keys[indices[j]]).compareTo(keys[current]) > 0) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = current;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(buffer, indices, from, mid, keys);
+        mergeSort(buffer, indices, mid, to, keys);
+        if (((Comparable) keys[buffer[mid - 1]]).compareTo(keys[buffer[mid]]) <= 0) {
+            System.arraycopy(buffer, from, indices, from, to - from);
+            return;
+        }
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && ((Comparable) keys[buffer[i]]).compareTo(keys[buffer[j]]) <= 0)) {
+                indices[k] = buffer[i++];
+            } else {
+                indices[k] = buffer[j++];
+            }
+        }
+    }
+}
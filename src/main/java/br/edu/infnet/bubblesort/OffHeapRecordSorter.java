@@ -0,0 +1,334 @@
+package br.edu.infnet.bubblesort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Ordenação de registros binários de tamanho fixo diretamente num {@link ByteBuffer}, inclusive
+ * buffers diretos e arquivos mapeados em memória, sem criar objetos por registro.
+ *
+ * <p>Cada registro ocupa {@code recordSize} bytes e a chave é o trecho de {@code keyWidth} bytes a
+ * partir de {@code keyOffset}, comparado byte a byte sem sinal (como {@code memcmp}). Chaves inteiras
+ * com sinal devem ser gravadas em big-endian com o bit de sinal invertido para manter a ordem.
+ *
+ * <p>Há duas estratégias:
+ * <ul>
+ *   <li>{@link #sortInPlace(ByteBuffer)}: introsort trocando os próprios registros. Não aloca nada
+ *   além de um registro auxiliar, mas não é estável e move cada registro várias vezes;</li>
+ *   <li>{@link #sortByIndex(ByteBuffer)}: ordena pares (prefixo de 8 bytes da chave, índice) com um
+ *   merge sort estável e só então move cada registro uma vez, seguindo os ciclos da permutação. Usa
+ *   16 bytes de heap por registro e compensa para registros grandes.</li>
+ * </ul>
+ *
+ * <p>Os registros ordenados são os que estão entre a posição e o limite do buffer, que não são
+ * alterados.
+ */
+class OffHeapRecordSorter {
+
+    /**
+     * Tamanho de registro a partir do qual {@link #sort(ByteBuffer)} ordena por índice.
+     */
+    static final int INDEX_SORT_MIN_RECORD_SIZE = 64;
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final int recordSize;
+    private final int keyOffset;
+    private final int keyWidth;
+
+    /**
+     * @param recordSize tamanho de cada registro, em bytes
+     * @param keyOffset  posição da chave dentro do registro
+     * @param keyWidth   tamanho da chave, em bytes
+     */
+    OffHeapRecordSorter(int recordSize, int keyOffset, int keyWidth) {
+        if (recordSize < 1) {
+            throw new IllegalArgumentException("recordSize deve ser positivo");
+        }
+        if (keyOffset < 0 || keyWidth < 1 || keyOffset + keyWidth > recordSize) {
+            throw new IllegalArgumentException("a chave deve estar contida no registro");
+        }
+        this.recordSize = recordSize;
+        this.keyOffset = keyOffset;
+        this.keyWidth = keyWidth;
+    }
+
+    /**
+     * Ordena os registros escolhendo a estratégia pelo tamanho do registro.
+     *
+     * @param buffer os registros entre a posição e o limite
+     */
+    void sort(ByteBuffer buffer) {
+        if (recordSize >= INDEX_SORT_MIN_RECORD_SIZE) {
+            sortByIndex(buffer);
+        } else {
+            sortInPlace(buffer);
+        }
+    }
+
+    /**
+     * Mapeia o arquivo em memória, ordena todos os seus registros e grava o resultado.
+     *
+     * @param file arquivo com registros de tamanho fixo, de até 2 GiB
+     * @throws IOException se o arquivo não puder ser mapeado
+     */
+    void sort(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("arquivo maior que 2 GiB");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            sort(mapped);
+            mapped.force();
+        }
+    }
+
+    /**
+     * Ordena os registros trocando-os de lugar no próprio buffer. Não é estável.
+     *
+     * @param buffer os registros entre a posição e o limite
+     */
+    void sortInPlace(ByteBuffer buffer) {
+        ByteBuffer view = view(buffer);
+        int count = count(buffer);
+        if (count > 1) {
+            byte[] scratch = new byte[recordSize];
+            quickSort(view, scratch, buffer.position(), 0, count - 1, DualPivotQuickSort.depthLimit(count));
+        }
+    }
+
+    /**
+     * Ordena pares (prefixo da chave, índice) de forma estável e aplica a permutação resultante,
+     * movendo cada registro uma única vez.
+     *
+     * @param buffer os registros entre a posição e o limite
+     */
+    void sortByIndex(ByteBuffer buffer) {
+        ByteBuffer view = view(buffer);
+        int count = count(buffer);
+        if (count < 2) {
+            return;
+        }
+        int base = buffer.position();
+        long[] prefixes = new long[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            prefixes[i] = prefix(view, base + i * recordSize);
+            order[i] = i;
+        }
+        mergeSort(view, base, prefixes, order, new int[count], 0, count);
+        permute(view, base, order);
+    }
+
+    private ByteBuffer view(ByteBuffer buffer) {
+        return buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    private int count(ByteBuffer buffer) {
+        if (buffer.remaining() % recordSize != 0) {
+            throw new IllegalArgumentException("o tamanho do buffer deve ser múltiplo de recordSize");
+        }
+        return buffer.remaining() / recordSize;
+    }
+
+    /**
+     * Compara as chaves dos registros que começam em {@code a} e {@code b}, a partir do byte
+     * {@code from} da chave, oito bytes por vez enquanto possível.
+     */
+    private int compare(ByteBuffer view, int a, int b, int from) {
+        int keyA = a + keyOffset;
+        int keyB = b + keyOffset;
+        int i = from;
+        for (; i + Long.BYTES <= keyWidth; i += Long.BYTES) {
+            long x = view.getLong(keyA + i);
+            long y = view.getLong(keyB + i);
+            if (x != y) {
+                return Long.compareUnsigned(x, y);
+            }
+        }
+        for (; i < keyWidth; i++) {
+            int x = view.get(keyA + i) & 0xFF;
+            int y = view.get(keyB + i) & 0xFF;
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Lê os primeiros 8 bytes da chave como um {@code long} sem sinal, completando com zeros à
+     * direita se a chave for menor.
+     */
+    private long prefix(ByteBuffer view, int record) {
+        int key = record + keyOffset;
+        if (keyWidth >= Long.BYTES) {
+            return view.getLong(key);
+        }
+        long prefix = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            prefix = prefix << 8 | (i < keyWidth ? view.get(key + i) & 0xFF : 0);
+        }
+        return prefix;
+    }
+
+    private void swap(ByteBuffer view, byte[] scratch, int a, int b) {
+        if (a != b) {
+            view.get(a, scratch);
+            view.put(a, view, b, recordSize);
+            view.put(b, scratch);
+        }
+    }
+
+    /**
+     * Ordena os registros {@code [left, right]}, contados a partir de {@code base}, por quicksort com
+     * mediana de três, insertion sort nos trechos pequenos e heapsort se a recursão for profunda demais.
+     */
+    private void quickSort(ByteBuffer view, byte[] scratch, int base, int left, int right, int depth) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(view, scratch, base, left, right);
+                return;
+            }
+            int mid = (left + right) >>> 1;
+            if (compare(view, at(base, mid), at(base, left), 0) < 0) {
+                swap(view, scratch, at(base, mid), at(base, left));
+            }
+            if (compare(view, at(base, right), at(base, left), 0) < 0) {
+                swap(view, scratch, at(base, right), at(base, left));
+            }
+            if (compare(view, at(base, right), at(base, mid), 0) < 0) {
+                swap(view, scratch, at(base, right), at(base, mid));
+            }
+            swap(view, scratch, at(base, mid), at(base, right - 1));
+            int pivot = at(base, right - 1);
+            int i = left;
+            int j = right - 1;
+            while (true) {
+                do {
+                    i++;
+                } while (compare(view, at(base, i), pivot, 0) < 0);
+                do {
+                    j--;
+                } while (compare(view, at(base, j), pivot, 0) > 0);
+                if (i >= j) {
+                    break;
+                }
+                swap(view, scratch, at(base, i), at(base, j));
+            }
+            swap(view, scratch, at(base, i), pivot);
+            if (i - left < right - i) {
+                quickSort(view, scratch, base, left, i - 1, depth);
+                left = i + 1;
+            } else {
+                quickSort(view, scratch, base, i + 1, right, depth);
+                right = i - 1;
+            }
+        }
+        for (int i = left + 1; i <= right; i++) {
+            for (int j = i; j > left && compare(view, at(base, j - 1), at(base, j), 0) > 0; j--) {
+                swap(view, scratch, at(base, j - 1), at(base, j));
+            }
+        }
+    }
+
+    private void heapSort(ByteBuffer view, byte[] scratch, int base, int left, int right) {
+        int size = right - left + 1;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(view, scratch, base, left, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(view, scratch, at(base, left), at(base, left + end));
+            siftDown(view, scratch, base, left, 0, end);
+        }
+    }
+
+    private void siftDown(ByteBuffer view, byte[] scratch, int base, int left, int index, int size) {
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && compare(view, at(base, left + child + 1), at(base, left + child), 0) > 0) {
+                child++;
+            }
+            if (compare(view, at(base, left + index), at(base, left + child), 0) >= 0) {
+                return;
+            }
+            swap(view, scratch, at(base, left + index), at(base, left + child));
+            index = child;
+        }
+    }
+
+    private int at(int base, int record) {
+        return base + record * recordSize;
+    }
+
+    /**
+     * Merge sort estável de {@code order[from, to)} por prefixo e, em caso de empate, pelo restante
+     * da chave.
+     */
+    private void mergeSort(ByteBuffer view, int base, long[] prefixes, int[] order, int[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int current = order[i];
+                int j = i - 1;
+                while (j >= from && compareIndexed(view, base, prefixes, order[j], current) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = current;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(view, base, prefixes, order, buffer, from, mid);
+        mergeSort(view, base, prefixes, order, buffer, mid, to);
+        if (compareIndexed(view, base, prefixes, order[mid - 1], order[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && compareIndexed(view, base, prefixes, buffer[i], buffer[j]) <= 0)) {
+                order[k] = buffer[i++];
+            } else {
+                order[k] = buffer[j++];
+            }
+        }
+    }
+
+    private int compareIndexed(ByteBuffer view, int base, long[] prefixes, int a, int b) {
+        int comparison = Long.compareUnsigned(prefixes[a], prefixes[b]);
+        if (comparison != 0 || keyWidth <= Long.BYTES) {
+            return comparison;
+        }
+        return compare(view, at(base, a), at(base, b), Long.BYTES);
+    }
+
+    /**
+     * Move o registro {@code order[k]} para a posição {@code k}, percorrendo cada ciclo da permutação
+     * com um único registro auxiliar. Ao final, {@code order} é a identidade.
+     */
+    private void permute(ByteBuffer view, int base, int[] order) {
+        byte[] scratch = new byte[recordSize];
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] == start) {
+                continue;
+            }
+            view.get(at(base, start), scratch);
+            int target = start;
+            while (order[target] != start) {
+                int source = order[target];
+                view.put(at(base, target), view, at(base, source), recordSize);
+                order[target] = target;
+                target = source;
+            }
+            view.put(at(base, target), scratch);
+            order[target] = target;
+        }
+    }
+}
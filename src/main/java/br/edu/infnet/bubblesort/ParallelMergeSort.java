@@ -0,0 +1,625 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Merge sort paralelo baseado em fork-join.
+ *
+ * <p>O array é dividido recursivamente até o tamanho de corte ({@code cutoff}); abaixo dele cada
+ * metade é ordenada sequencialmente. As duas metades ordenadas são então intercaladas em paralelo:
+ * a sequência maior é dividida ao meio e a menor é particionada por busca binária, de forma que
+ * cada par de pedaços possa ser intercalado por uma tarefa independente.
+ *
+ * <p>A ordenação é estável e produz o mesmo resultado que {@link BubbleSort}. Usa um único buffer
+ * auxiliar do tamanho da entrada por chamada.
+ *
+ * @see SortAlgorithm
+ */
+class ParallelMergeSort implements SortAlgorithm {
+
+    /**
+     * Tamanho de corte padrão abaixo do qual as tarefas deixam de ser divididas.
+     */
+    static final int DEFAULT_CUTOFF = 1 << 13;
+
+    /**
+     * Abaixo deste tamanho a ordenação sequencial usa insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    /**
+     * Cria o algoritmo usando o {@link ForkJoinPool#commonPool()} e o corte padrão.
+     */
+    ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Cria o algoritmo usando o {@link ForkJoinPool#commonPool()}.
+     *
+     * @param cutoff tamanho a partir do qual um trecho é ordenado sequencialmente
+     */
+    ParallelMergeSort(int cutoff) {
+        this(ForkJoinPool.commonPool(), cutoff);
+    }
+
+    /**
+     * Cria o algoritmo com um pool próprio.
+     *
+     * @param pool   pool em que as tarefas de ordenação e intercalação são executadas
+     * @param cutoff tamanho a partir do qual um trecho é ordenado sequencialmente
+     */
+    ParallelMergeSort(ForkJoinPool pool, int cutoff) {
+        if (cutoff < 2) {
+            throw new IllegalArgumentException("cutoff deve ser maior ou igual a 2");
+        }
+        this.pool = Objects.requireNonNull(pool, "pool não pode ser nulo");
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        T[] buffer = Arrays.copyOf(array, array.length);
+        if (array.length <= cutoff) {
+            sequentialSort(array, buffer, 0, array.length);
+        } else {
+            pool.invoke(new ObjectSortTask<>(array, buffer, 0, array.length, cutoff));
+        }
+        return array;
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        int[] buffer = new int[array.length];
+        if (array.length <= cutoff) {
+            sequentialSort(array, buffer, 0, array.length);
+        } else {
+            pool.invoke(new IntSortTask(array, buffer, 0, array.length, cutoff));
+        }
+        return array;
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        long[] buffer = new long[array.length];
+        if (array.length <= cutoff) {
+            sequentialSort(array, buffer, 0, array.length);
+        } else {
+            pool.invoke(new LongSortTask(array, buffer, 0, array.length, cutoff));
+        }
+        return array;
+    }
+
+    @Override
+    public double[] sort(double[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        double[] buffer = new double[array.length];
+        if (array.length <= cutoff) {
+            sequentialSort(array, buffer, 0, array.length);
+        } else {
+            pool.invoke(new DoubleSortTask(array, buffer, 0, array.length, cutoff));
+        }
+        return array;
+    }
+
+    /**
+     * Merge sort sequencial (top-down) de {@code array[from, to)}, usando {@code buffer} na intercalação.
+     */
+    static <T extends Comparable<T>> void sequentialSort(T[] array, T[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            SortUtils.insertionSort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(array, buffer, from, mid);
+        sequentialSort(array, buffer, mid, to);
+        if (SortUtils.greater(array[mid - 1], array[mid])) {
+            System.arraycopy(array, from, buffer, from, to - from);
+            merge(buffer, from, mid, mid, to, array, from);
+        }
+    }
+
+    /**
+     * Intercala {@code src[lo1, hi1)} e {@code src[lo2, hi2)} em {@code dst} a partir de {@code out}.
+     * Em caso de empate o elemento da primeira sequência vem antes, o que mantém a estabilidade.
+     */
+    private static <T extends Comparable<T>> void merge(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) {
+            dst[out++] = SortUtils.greater(src[lo1], src[lo2]) ? src[lo2++] : src[lo1++];
+        }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }
+
+    /**
+     * Primeira posição de {@code src[from, to)} cujo elemento não é menor que {@code key}.
+     */
+    private static <T extends Comparable<T>> int lowerBound(T[] src, int from, int to, T key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (SortUtils.less(src[mid], key)) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Primeira posição de {@code src[from, to)} cujo elemento é maior que {@code key}.
+     */
+    private static <T extends Comparable<T>> int upperBound(T[] src, int from, int to, T key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (SortUtils.greater(src[mid], key)) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+        return from;
+    }
+
+    static void sequentialSort(int[] array, int[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            SortUtils.insertionSort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(array, buffer, from, mid);
+        sequentialSort(array, buffer, mid, to);
+        if (array[mid - 1] > array[mid]) {
+            System.arraycopy(array, from, buffer, from, to - from);
+            merge(buffer, from, mid, mid, to, array, from);
+        }
+    }
+
+    private static void merge(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) {
+            dst[out++] = src[lo1] > src[lo2] ? src[lo2++] : src[lo1++];
+        }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }
+
+    private static int lowerBound(int[] src, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (src[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static int upperBound(int[] src, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (src[mid] > key) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+        return from;
+    }
+
+    static void sequentialSort(long[] array, long[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            SortUtils.insertionSort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(array, buffer, from, mid);
+        sequentialSort(array, buffer, mid, to);
+        if (array[mid - 1] > array[mid]) {
+            System.arraycopy(array, from, buffer, from, to - from);
+            merge(buffer, from, mid, mid, to, array, from);
+        }
+    }
+
+    private static void merge(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) {
+            dst[out++] = src[lo1] > src[lo2] ? src[lo2++] : src[lo1++];
+        }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }
+
+    private static int lowerBound(long[] src, int from, int to, long key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (src[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static int upperBound(long[] src, int from, int to, long key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (src[mid] > key) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+        return from;
+    }
+
+    static void sequentialSort(double[] array, double[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            SortUtils.insertionSort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(array, buffer, from, mid);
+        sequentialSort(array, buffer, mid, to);
+        if (Double.compare(array[mid - 1], array[mid]) > 0) {
+            System.arraycopy(array, from, buffer, from, to - from);
+            merge(buffer, from, mid, mid, to, array, from);
+        }
+    }
+
+    private static void merge(double[] src, int lo1, int hi1, int lo2, int hi2, double[] dst, int out) {
+        while (lo1 < hi1 && lo2 < hi2) {
+            dst[out++] = Double.compare(src[lo1], src[lo2]) > 0 ? src[lo2++] : src[lo1++];
+        }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + hi1 - lo1, hi2 - lo2);
+    }
+
+    private static int lowerBound(double[] src, int from, int to, double key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (Double.compare(src[mid], key) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static int upperBound(double[] src, int from, int to, double key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (Double.compare(src[mid], key) > 0) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Ordena um trecho dividindo-o em duas tarefas e intercalando o resultado em paralelo.
+     */
+    private static final class ObjectSortTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        ObjectSortTask(T[] array, T[] buffer, int from, int to, int cutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                sequentialSort(array, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ObjectSortTask<>(array, buffer, from, mid, cutoff),
+                    new ObjectSortTask<>(array, buffer, mid, to, cutoff));
+            if (SortUtils.greater(array[mid - 1], array[mid])) {
+                System.arraycopy(array, from, buffer, from, to - from);
+                new ObjectMergeTask<>(buffer, from, mid, mid, to, array, from, cutoff).compute();
+            }
+        }
+    }
+
+    /**
+     * Intercala dois trechos ordenados de {@code src} em {@code dst}, dividindo o trabalho enquanto
+     * o total for maior que o corte.
+     */
+    private static final class ObjectMergeTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final T[] dst;
+        private final int out;
+        private final int cutoff;
+
+        ObjectMergeTask(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int out, int cutoff) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 <= cutoff) {
+                merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (length1 >= length2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = upperBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new ObjectMergeTask<>(src, lo1, mid1, lo2, mid2, dst, out, cutoff),
+                    new ObjectMergeTask<>(src, mid1, hi1, mid2, hi2, dst, split, cutoff));
+        }
+    }
+
+    private static final class IntSortTask extends RecursiveAction {
+        private final int[] array;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        IntSortTask(int[] array, int[] buffer, int from, int to, int cutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                sequentialSort(array, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new IntSortTask(array, buffer, from, mid, cutoff),
+                    new IntSortTask(array, buffer, mid, to, cutoff));
+            if (array[mid - 1] > array[mid]) {
+                System.arraycopy(array, from, buffer, from, to - from);
+                new IntMergeTask(buffer, from, mid, mid, to, array, from, cutoff).compute();
+            }
+        }
+    }
+
+    private static final class IntMergeTask extends RecursiveAction {
+        private final int[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int[] dst;
+        private final int out;
+        private final int cutoff;
+
+        IntMergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out, int cutoff) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 <= cutoff) {
+                merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (length1 >= length2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = upperBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new IntMergeTask(src, lo1, mid1, lo2, mid2, dst, out, cutoff),
+                    new IntMergeTask(src, mid1, hi1, mid2, hi2, dst, split, cutoff));
+        }
+    }
+
+    private static final class LongSortTask extends RecursiveAction {
+        private final long[] array;
+        private final long[] buffer;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        LongSortTask(long[] array, long[] buffer, int from, int to, int cutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                sequentialSort(array, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LongSortTask(array, buffer, from, mid, cutoff),
+                    new LongSortTask(array, buffer, mid, to, cutoff));
+            if (array[mid - 1] > array[mid]) {
+                System.arraycopy(array, from, buffer, from, to - from);
+                new LongMergeTask(buffer, from, mid, mid, to, array, from, cutoff).compute();
+            }
+        }
+    }
+
+    private static final class LongMergeTask extends RecursiveAction {
+        private final long[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final long[] dst;
+        private final int out;
+        private final int cutoff;
+
+        LongMergeTask(long[] src, int lo1, int hi1, int lo2, int hi2, long[] dst, int out, int cutoff) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 <= cutoff) {
+                merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (length1 >= length2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = upperBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new LongMergeTask(src, lo1, mid1, lo2, mid2, dst, out, cutoff),
+                    new LongMergeTask(src, mid1, hi1, mid2, hi2, dst, split, cutoff));
+        }
+    }
+
+    private static final class DoubleSortTask extends RecursiveAction {
+        private final double[] array;
+        private final double[] buffer;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        DoubleSortTask(double[] array, double[] buffer, int from, int to, int cutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                sequentialSort(array, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DoubleSortTask(array, buffer, from, mid, cutoff),
+                    new DoubleSortTask(array, buffer, mid, to, cutoff));
+            if (Double.compare(array[mid - 1], array[mid]) > 0) {
+                System.arraycopy(array, from, buffer, from, to - from);
+                new DoubleMergeTask(buffer, from, mid, mid, to, array, from, cutoff).compute();
+            }
+        }
+    }
+
+    private static final class DoubleMergeTask extends RecursiveAction {
+        private final double[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final double[] dst;
+        private final int out;
+        private final int cutoff;
+
+        DoubleMergeTask(double[] src, int lo1, int hi1, int lo2, int hi2, double[] dst, int out, int cutoff) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 <= cutoff) {
+                merge(src, lo1, hi1, lo2, hi2, dst, out);
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (length1 >= length2) {
+                mid1 = (lo1 + hi1) >>> 1;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                mid2 = (lo2 + hi2) >>> 1;
+                mid1 = upperBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = out + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new DoubleMergeTask(src, lo1, mid1, lo2, mid2, dst, out, cutoff),
+                    new DoubleMergeTask(src, mid1, hi1, mid2, hi2, dst, split, cutoff));
+        }
+    }
+}
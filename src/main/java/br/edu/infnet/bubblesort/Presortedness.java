@@ -0,0 +1,582 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Quanto um array já está ordenado.
+ *
+ * <p>{@link #of(int[])} e as variantes calculam numa única leitura o número de sequências não
+ * decrescentes e o tamanho da maior delas. Para entradas grandes, a leitura é dividida em blocos
+ * processados em paralelo num {@link ForkJoinPool}; cada bloco informa também as sequências que
+ * começam e terminam nas suas bordas, que são unidas comparando o último elemento de um bloco com o
+ * primeiro do seguinte. A fração de pares fora de ordem e a fração de repetições são estimadas por
+ * amostras de tamanho fixo.
+ *
+ * <p>{@link #isSorted(int[])} e as variantes respondem apenas se o array está ordenado, também em
+ * paralelo, e todas as tarefas param assim que alguma encontra um par fora de ordem. A ordem de
+ * {@code double} é a de {@link Double#compare}.
+ *
+ * @see SortUtils#isSorted(Comparable[])
+ */
+final class Presortedness {
+
+    /**
+     * Tamanho padrão a partir do qual a leitura é feita em paralelo.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Número de pares e de elementos usados nas estimativas por amostragem.
+     */
+    static final int SAMPLE_SIZE = 1024;
+
+    private static final int CHUNK = 1 << 14;
+
+    private final int length;
+    private final int runs;
+    private final int longestRun;
+    private final double inversionRatio;
+    private final double duplicateRatio;
+
+    private Presortedness(int length, int runs, int longestRun, double inversionRatio, double duplicateRatio) {
+        this.length = length;
+        this.runs = runs;
+        this.longestRun = longestRun;
+        this.inversionRatio = inversionRatio;
+        this.duplicateRatio = duplicateRatio;
+    }
+
+    /** Tamanho do array. */
+    int length() {
+        return length;
+    }
+
+    /** Número de sequências não decrescentes maximais: 1 se o array estiver ordenado, 0 se vazio. */
+    int runs() {
+        return runs;
+    }
+
+    /** Tamanho da maior sequência não decrescente. */
+    int longestRun() {
+        return longestRun;
+    }
+
+    /** Se o array está em ordem não decrescente. */
+    boolean isSorted() {
+        return runs <= 1;
+    }
+
+    /** Fração estimada de pares fora de ordem: 0 se ordenado, perto de 0,5 se aleatório, 1 se invertido. */
+    double inversionRatio() {
+        return inversionRatio;
+    }
+
+    /** Fração estimada de elementos que repetem um valor anterior: perto de 1 com poucos valores distintos. */
+    double duplicateRatio() {
+        return duplicateRatio;
+    }
+
+    @Override
+    public String toString() {
+        return "Presortedness{length=" + length + ", runs=" + runs + ", longestRun=" + longestRun
+                + ", inversionRatio=" + inversionRatio + ", duplicateRatio=" + duplicateRatio + '}';
+    }
+
+    static <T extends Comparable<T>> Presortedness of(T[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param array             o array analisado
+     * @param pool              pool usado na leitura paralela
+     * @param parallelThreshold tamanho a partir do qual a leitura é feita em paralelo
+     * @param <T>               o tipo dos elementos
+     * @return a análise do array
+     */
+    static <T extends Comparable<T>> Presortedness of(T[] array, ForkJoinPool pool, int parallelThreshold) {
+        return analyze(new ObjectScanner<>(array), pool, parallelThreshold);
+    }
+
+    static Presortedness of(int[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static Presortedness of(int[] array, ForkJoinPool pool, int parallelThreshold) {
+        return analyze(new IntScanner(array), pool, parallelThreshold);
+    }
+
+    static Presortedness of(long[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static Presortedness of(long[] array, ForkJoinPool pool, int parallelThreshold) {
+        return analyze(new LongScanner(array), pool, parallelThreshold);
+    }
+
+    static Presortedness of(double[] array) {
+        return of(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static Presortedness of(double[] array, ForkJoinPool pool, int parallelThreshold) {
+        return analyze(new DoubleScanner(array), pool, parallelThreshold);
+    }
+
+    static <T extends Comparable<T>> boolean isSorted(T[] array) {
+        return isSorted(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param array             o array verificado
+     * @param pool              pool usado na leitura paralela
+     * @param parallelThreshold tamanho a partir do qual a leitura é feita em paralelo
+     * @param <T>               o tipo dos elementos
+     * @return se o array está em ordem não decrescente
+     */
+    static <T extends Comparable<T>> boolean isSorted(T[] array, ForkJoinPool pool, int parallelThreshold) {
+        return isSorted(new ObjectScanner<>(array), pool, parallelThreshold);
+    }
+
+    static boolean isSorted(int[] array) {
+        return isSorted(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static boolean isSorted(int[] array, ForkJoinPool pool, int parallelThreshold) {
+        return isSorted(new IntScanner(array), pool, parallelThreshold);
+    }
+
+    static boolean isSorted(long[] array) {
+        return isSorted(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static boolean isSorted(long[] array, ForkJoinPool pool, int parallelThreshold) {
+        return isSorted(new LongScanner(array), pool, parallelThreshold);
+    }
+
+    static boolean isSorted(double[] array) {
+        return isSorted(array, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static boolean isSorted(double[] array, ForkJoinPool pool, int parallelThreshold) {
+        return isSorted(new DoubleScanner(array), pool, parallelThreshold);
+    }
+
+    /**
+     * Compara dois elementos de um array pelas posições.
+     */
+    @FunctionalInterface
+    interface IndexComparator {
+        int compare(int i, int j);
+    }
+
+    /**
+     * Fração de vizinhos fora de ordem entre até {@code samples} posições igualmente espaçadas.
+     */
+    static double sampledDescentRatio(int length, int samples, IndexComparator comparator) {
+        if (length < 2) {
+            return 0;
+        }
+        samples = Math.min(samples, length - 1);
+        int descents = 0;
+        for (int k = 0; k < samples; k++) {
+            int i = (int) ((long) k * (length - 1) / samples);
+            if (comparator.compare(i, i + 1) > 0) {
+                descents++;
+            }
+        }
+        return (double) descents / samples;
+    }
+
+    /**
+     * Fração de pares fora de ordem entre {@code samples} pares pseudoaleatórios. A semente depende
+     * apenas do tamanho, então a estimativa é a mesma para o mesmo array.
+     */
+    static double sampledInversionRatio(int length, int samples, IndexComparator comparator) {
+        if (length < 2) {
+            return 0;
+        }
+        long seed = length * 0x9E3779B97F4A7C15L;
+        int inversions = 0;
+        for (int k = 0; k < samples; k++) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 7;
+            seed ^= seed << 17;
+            int a = (int) ((seed >>> 33) % length);
+            int b = (int) ((seed & 0xFFFFFFFFL) % length);
+            if (a != b && comparator.compare(Math.min(a, b), Math.max(a, b)) > 0) {
+                inversions++;
+            }
+        }
+        return (double) inversions / samples;
+    }
+
+    /**
+     * Fração de repetições entre até {@code samples} elementos igualmente espaçados.
+     */
+    static double sampledDuplicateRatio(int length, int samples, IndexComparator comparator) {
+        samples = Math.min(samples, length);
+        if (samples < 2) {
+            return 0;
+        }
+        int[] positions = new int[samples];
+        for (int k = 0; k < samples; k++) {
+            positions[k] = (int) ((long) k * length / samples);
+        }
+        heapSort(positions, comparator);
+        int duplicates = 0;
+        for (int k = 1; k < samples; k++) {
+            if (comparator.compare(positions[k - 1], positions[k]) == 0) {
+                duplicates++;
+            }
+        }
+        return (double) duplicates / samples;
+    }
+
+    /**
+     * Ordena posições pelos elementos a que se referem, no lugar e sem boxing.
+     */
+    private static void heapSort(int[] positions, IndexComparator comparator) {
+        for (int i = positions.length / 2 - 1; i >= 0; i--) {
+            siftDown(positions, i, positions.length, comparator);
+        }
+        for (int end = positions.length - 1; end > 0; end--) {
+            int top = positions[0];
+            positions[0] = positions[end];
+            positions[end] = top;
+            siftDown(positions, 0, end, comparator);
+        }
+    }
+
+    private static void siftDown(int[] heap, int i, int size, IndexComparator comparator) {
+        int value = heap[i];
+        for (int child = 2 * i + 1; child < size; child = 2 * i + 1) {
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(heap[child], value) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    private static Presortedness analyze(Scanner scanner, ForkJoinPool pool, int parallelThreshold) {
+        Objects.requireNonNull(pool, "pool não pode ser nulo");
+        int length = scanner.length;
+        if (length == 0) {
+            return new Presortedness(0, 0, 0, 0, 0);
+        }
+        Stats stats = length < parallelThreshold
+                ? scanner.scan(0, length)
+                : pool.invoke(new StatsTask(scanner, 0, length));
+        return new Presortedness(length, stats.descents + 1, stats.longest,
+                sampledInversionRatio(length, SAMPLE_SIZE, scanner::compare),
+                sampledDuplicateRatio(length, SAMPLE_SIZE, scanner::compare));
+    }
+
+    private static boolean isSorted(Scanner scanner, ForkJoinPool pool, int parallelThreshold) {
+        Objects.requireNonNull(pool, "pool não pode ser nulo");
+        if (scanner.length < parallelThreshold) {
+            return scanner.firstDescent(1, scanner.length) < 0;
+        }
+        AtomicBoolean unsorted = new AtomicBoolean();
+        pool.invoke(new SortedTask(scanner, 1, scanner.length, unsorted));
+        return !unsorted.get();
+    }
+
+    /**
+     * Resumo de um trecho: descidas internas, sequência inicial, sequência final e maior sequência.
+     */
+    private static final class Stats {
+        final int length;
+        final int descents;
+        final int prefix;
+        final int suffix;
+        final int longest;
+
+        Stats(int length, int descents, int prefix, int suffix, int longest) {
+            this.length = length;
+            this.descents = descents;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.longest = longest;
+        }
+
+        /**
+         * Une dois trechos vizinhos; {@code ordered} indica se o último elemento deste não é maior
+         * que o primeiro do outro.
+         */
+        Stats join(Stats right, boolean ordered) {
+            if (!ordered) {
+                return new Stats(length + right.length, descents + right.descents + 1, prefix, right.suffix,
+                        Math.max(longest, right.longest));
+            }
+            int crossing = suffix + right.prefix;
+            return new Stats(length + right.length, descents + right.descents,
+                    descents == 0 ? length + right.prefix : prefix,
+                    right.descents == 0 ? right.length + suffix : right.suffix,
+                    Math.max(crossing, Math.max(longest, right.longest)));
+        }
+    }
+
+    /**
+     * Leitura especializada de um array de um tipo.
+     */
+    private abstract static class Scanner {
+        final int length;
+
+        Scanner(int length) {
+            this.length = length;
+        }
+
+        /**
+         * Resume {@code [from, to)}, sem considerar o par que cruza {@code from}.
+         */
+        abstract Stats scan(int from, int to);
+
+        /**
+         * Primeira posição {@code i} em {@code [from, to)} com {@code a[i - 1] > a[i]}, ou -1.
+         */
+        abstract int firstDescent(int from, int to);
+
+        abstract int compare(int i, int j);
+    }
+
+    private static final class ObjectScanner<T extends Comparable<T>> extends Scanner {
+        private final T[] array;
+
+        ObjectScanner(T[] array) {
+            super(array.length);
+            this.array = array;
+        }
+
+        @Override
+        Stats scan(int from, int to) {
+            int descents = 0;
+            int prefix = to - from;
+            int longest = 0;
+            int start = from;
+            for (int i = from + 1; i < to; i++) {
+                if (array[i - 1].compareTo(array[i]) > 0) {
+                    if (descents++ == 0) {
+                        prefix = i - from;
+                    }
+                    longest = Math.max(longest, i - start);
+                    start = i;
+                }
+            }
+            return new Stats(to - from, descents, prefix, to - start, Math.max(longest, to - start));
+        }
+
+        @Override
+        int firstDescent(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (array[i - 1].compareTo(array[i]) > 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return array[i].compareTo(array[j]);
+        }
+    }
+
+    private static final class IntScanner extends Scanner {
+        private final int[] array;
+
+        IntScanner(int[] array) {
+            super(array.length);
+            this.array = array;
+        }
+
+        @Override
+        Stats scan(int from, int to) {
+            int descents = 0;
+            int prefix = to - from;
+            int longest = 0;
+            int start = from;
+            for (int i = from + 1; i < to; i++) {
+                if (array[i - 1] > array[i]) {
+                    if (descents++ == 0) {
+                        prefix = i - from;
+                    }
+                    longest = Math.max(longest, i - start);
+                    start = i;
+                }
+            }
+            return new Stats(to - from, descents, prefix, to - start, Math.max(longest, to - start));
+        }
+
+        @Override
+        int firstDescent(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (array[i - 1] > array[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Integer.compare(array[i], array[j]);
+        }
+    }
+
+    private static final class LongScanner extends Scanner {
+        private final long[] array;
+
+        LongScanner(long[] array) {
+            super(array.length);
+            this.array = array;
+        }
+
+        @Override
+        Stats scan(int from, int to) {
+            int descents = 0;
+            int prefix = to - from;
+            int longest = 0;
+            int start = from;
+            for (int i = from + 1; i < to; i++) {
+                if (array[i - 1] > array[i]) {
+                    if (descents++ == 0) {
+                        prefix = i - from;
+                    }
+                    longest = Math.max(longest, i - start);
+                    start = i;
+                }
+            }
+            return new Stats(to - from, descents, prefix, to - start, Math.max(longest, to - start));
+        }
+
+        @Override
+        int firstDescent(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (array[i - 1] > array[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Long.compare(array[i], array[j]);
+        }
+    }
+
+    private static final class DoubleScanner extends Scanner {
+        private final double[] array;
+
+        DoubleScanner(double[] array) {
+            super(array.length);
+            this.array = array;
+        }
+
+        @Override
+        Stats scan(int from, int to) {
+            int descents = 0;
+            int prefix = to - from;
+            int longest = 0;
+            int start = from;
+            for (int i = from + 1; i < to; i++) {
+                if (Double.compare(array[i - 1], array[i]) > 0) {
+                    if (descents++ == 0) {
+                        prefix = i - from;
+                    }
+                    longest = Math.max(longest, i - start);
+                    start = i;
+                }
+            }
+            return new Stats(to - from, descents, prefix, to - start, Math.max(longest, to - start));
+        }
+
+        @Override
+        int firstDescent(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (Double.compare(array[i - 1], array[i]) > 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Double.compare(array[i], array[j]);
+        }
+    }
+
+    /**
+     * Resume {@code [from, to)} dividindo-o em metades e unindo os resumos pela borda.
+     */
+    private static final class StatsTask extends RecursiveTask<Stats> {
+        private final Scanner scanner;
+        private final int from;
+        private final int to;
+
+        StatsTask(Scanner scanner, int from, int to) {
+            this.scanner = scanner;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (to - from <= CHUNK) {
+                return scanner.scan(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            StatsTask right = new StatsTask(scanner, mid, to);
+            right.fork();
+            Stats left = new StatsTask(scanner, from, mid).compute();
+            return left.join(right.join(), scanner.compare(mid - 1, mid) <= 0);
+        }
+    }
+
+    /**
+     * Procura uma descida em {@code [from, to)}, verificando entre blocos se outra tarefa já
+     * encontrou uma.
+     */
+    private static final class SortedTask extends RecursiveAction {
+        private final Scanner scanner;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean unsorted;
+
+        SortedTask(Scanner scanner, int from, int to, AtomicBoolean unsorted) {
+            this.scanner = scanner;
+            this.from = from;
+            this.to = to;
+            this.unsorted = unsorted;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                for (int block = from; block < to && !unsorted.get(); block += CHUNK / 4) {
+                    if (scanner.firstDescent(block, Math.min(to, block + CHUNK / 4)) >= 0) {
+                        unsorted.set(true);
+                    }
+                }
+                return;
+            }
+            if (unsorted.get()) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SortedTask right = new SortedTask(scanner, mid, to, unsorted);
+            right.fork();
+            new SortedTask(scanner, from, mid, unsorted).compute();
+            right.join();
+        }
+    }
+}
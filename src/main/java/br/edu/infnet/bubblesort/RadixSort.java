@@ -0,0 +1,335 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Radix sort LSD com dígitos de 8 bits para chaves inteiras.
+ *
+ * <p>Ordena {@code int[]}, {@code long[]} e {@code double[]} diretamente e arrays de {@link Integer}
+ * ou {@link Long} carregando os objetos junto com as chaves, o que mantém a ordenação estável.
+ * Números negativos são tratados invertendo o bit de sinal do dígito mais significativo.
+ *
+ * <p>Os histogramas de todos os dígitos são calculados numa única leitura da entrada (em paralelo
+ * para entradas grandes) e um único buffer auxiliar é reutilizado entre as passagens. Passagens em
+ * que todas as chaves têm o mesmo dígito são ignoradas.
+ *
+ * <p>Arrays de outros tipos são delegados a um {@link ParallelMergeSort}, que também é estável.
+ *
+ * @see SortAlgorithm
+ */
+class RadixSort implements SortAlgorithm {
+
+    /**
+     * Tamanho padrão a partir do qual o histograma é calculado em paralelo.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int MASK = BUCKETS - 1;
+    private static final int SIGN_FLIP = BUCKETS >>> 1;
+    private static final int INT_PASSES = Integer.SIZE / RADIX_BITS;
+    private static final int LONG_PASSES = Long.SIZE / RADIX_BITS;
+    private static final int HISTOGRAM_CHUNK = 1 << 14;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final SortAlgorithm fallback;
+
+    /**
+     * Cria o algoritmo usando o {@link ForkJoinPool#commonPool()} e o limite paralelo padrão.
+     */
+    RadixSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Cria o algoritmo com um pool próprio.
+     *
+     * @param pool              pool usado no cálculo paralelo do histograma e na ordenação de outros tipos
+     * @param parallelThreshold tamanho a partir do qual o histograma é calculado em paralelo
+     */
+    RadixSort(ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold deve ser positivo");
+        }
+        this.pool = Objects.requireNonNull(pool, "pool não pode ser nulo");
+        this.parallelThreshold = parallelThreshold;
+        this.fallback = new ParallelMergeSort(pool, ParallelMergeSort.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Ordena arrays de {@link Integer} ou {@link Long} por radix sort; qualquer outro tipo de
+     * elemento é delegado a um merge sort estável.
+     *
+     * @param array o array a ser ordenado.
+     * @param <T> o tipo dos elementos no array.
+     * @return o array ordenado.
+     */
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        int passes = keyPasses(array);
+        if (passes == 0) {
+            return fallback.sort(array);
+        }
+        long[] keys = new long[array.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((Number) array[i]).longValue();
+        }
+        int[] counts = histogram(keys, passes);
+        long[] keyScratch = new long[keys.length];
+        T[] valueScratch = Arrays.copyOf(array, array.length);
+        T[] values = array;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            int flip = pass == passes - 1 ? SIGN_FLIP : 0;
+            int offset = pass * BUCKETS;
+            if (counts[offset + ((int) (keys[0] >>> shift) & MASK ^ flip)] == keys.length) {
+                continue;
+            }
+            toOffsets(counts, offset);
+            for (int i = 0; i < keys.length; i++) {
+                int target = counts[offset + ((int) (keys[i] >>> shift) & MASK ^ flip)]++;
+                keyScratch[target] = keys[i];
+                valueScratch[target] = values[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyScratch;
+            keyScratch = swapKeys;
+            T[] swapValues = values;
+            values = valueScratch;
+            valueScratch = swapValues;
+        }
+        if (values != array) {
+            System.arraycopy(values, 0, array, 0, array.length);
+        }
+        return array;
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        int[] counts = histogram(array);
+        int[] source = array;
+        int[] target = new int[array.length];
+        for (int pass = 0; pass < INT_PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            int flip = pass == INT_PASSES - 1 ? SIGN_FLIP : 0;
+            int offset = pass * BUCKETS;
+            if (counts[offset + ((source[0] >>> shift) & MASK ^ flip)] == source.length) {
+                continue;
+            }
+            toOffsets(counts, offset);
+            for (int value : source) {
+                target[counts[offset + ((value >>> shift) & MASK ^ flip)]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, array.length);
+        }
+        return array;
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        long[] sorted = sortKeys(array, new long[array.length]);
+        if (sorted != array) {
+            System.arraycopy(sorted, 0, array, 0, array.length);
+        }
+        return array;
+    }
+
+    /**
+     * Ordena {@code double} convertendo cada valor numa chave {@code long} cuja ordem com sinal é
+     * a mesma de {@link Double#compare}: os bits de valores negativos, exceto o de sinal, são
+     * invertidos. A conversão é a própria inversa.
+     */
+    @Override
+    public double[] sort(double[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        long[] keys = new long[array.length];
+        for (int i = 0; i < keys.length; i++) {
+            long bits = Double.doubleToLongBits(array[i]);
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        long[] sorted = sortKeys(keys, new long[keys.length]);
+        for (int i = 0; i < sorted.length; i++) {
+            long key = sorted[i];
+            array[i] = Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+        }
+        return array;
+    }
+
+    /**
+     * Ordena {@code keys} alternando entre ele e {@code scratch}.
+     *
+     * @return o array, entre os dois, que contém o resultado
+     */
+    private long[] sortKeys(long[] keys, long[] scratch) {
+        int[] counts = histogram(keys, LONG_PASSES);
+        for (int pass = 0; pass < LONG_PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            int flip = pass == LONG_PASSES - 1 ? SIGN_FLIP : 0;
+            int offset = pass * BUCKETS;
+            if (counts[offset + ((int) (keys[0] >>> shift) & MASK ^ flip)] == keys.length) {
+                continue;
+            }
+            toOffsets(counts, offset);
+            for (long key : keys) {
+                scratch[counts[offset + ((int) (key >>> shift) & MASK ^ flip)]++] = key;
+            }
+            long[] swap = keys;
+            keys = scratch;
+            scratch = swap;
+        }
+        return keys;
+    }
+
+    /**
+     * Retorna o número de passagens de 8 bits necessárias se todos os elementos forem {@link Integer}
+     * ou todos forem {@link Long}, ou zero caso contrário.
+     */
+    private static int keyPasses(Object[] array) {
+        Class<?> type = array[0].getClass();
+        if (type != Integer.class && type != Long.class) {
+            return 0;
+        }
+        for (Object element : array) {
+            if (element.getClass() != type) {
+                return 0;
+            }
+        }
+        return type == Integer.class ? INT_PASSES : LONG_PASSES;
+    }
+
+    /**
+     * Converte as contagens de um dígito em posições iniciais de cada balde (soma prefixa exclusiva).
+     */
+    private static void toOffsets(int[] counts, int offset) {
+        int sum = 0;
+        for (int i = offset; i < offset + BUCKETS; i++) {
+            int count = counts[i];
+            counts[i] = sum;
+            sum += count;
+        }
+    }
+
+    private int[] histogram(int[] keys) {
+        if (keys.length < parallelThreshold) {
+            return IntHistogramTask.count(keys, 0, keys.length);
+        }
+        return pool.invoke(new IntHistogramTask(keys, 0, keys.length));
+    }
+
+    private int[] histogram(long[] keys, int passes) {
+        if (keys.length < parallelThreshold) {
+            return LongHistogramTask.count(keys, passes, 0, keys.length);
+        }
+        return pool.invoke(new LongHistogramTask(keys, passes, 0, keys.length));
+    }
+
+    private static int[] add(int[] target, int[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += other[i];
+        }
+        return target;
+    }
+
+    /**
+     * Conta, em paralelo, as ocorrências de cada dígito em todas as passagens de chaves {@code int}.
+     */
+    private static final class IntHistogramTask extends RecursiveTask<int[]> {
+        private final int[] keys;
+        private final int from;
+        private final int to;
+
+        IntHistogramTask(int[] keys, int from, int to) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= HISTOGRAM_CHUNK) {
+                return count(keys, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            IntHistogramTask right = new IntHistogramTask(keys, mid, to);
+            right.fork();
+            int[] left = new IntHistogramTask(keys, from, mid).compute();
+            return add(left, right.join());
+        }
+
+        static int[] count(int[] keys, int from, int to) {
+            int[] counts = new int[INT_PASSES * BUCKETS];
+            for (int i = from; i < to; i++) {
+                int key = keys[i];
+                counts[key & MASK]++;
+                counts[BUCKETS + ((key >>> 8) & MASK)]++;
+                counts[2 * BUCKETS + ((key >>> 16) & MASK)]++;
+                counts[3 * BUCKETS + ((key >>> 24) ^ SIGN_FLIP)]++;
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Conta, em paralelo, as ocorrências de cada dígito nas primeiras {@code passes} passagens de
+     * chaves {@code long}.
+     */
+    private static final class LongHistogramTask extends RecursiveTask<int[]> {
+        private final long[] keys;
+        private final int passes;
+        private final int from;
+        private final int to;
+
+        LongHistogramTask(long[] keys, int passes, int from, int to) {
+            this.keys = keys;
+            this.passes = passes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= HISTOGRAM_CHUNK) {
+                return count(keys, passes, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            LongHistogramTask right = new LongHistogramTask(keys, passes, mid, to);
+            right.fork();
+            int[] left = new LongHistogramTask(keys, passes, from, mid).compute();
+            return add(left, right.join());
+        }
+
+        static int[] count(long[] keys, int passes, int from, int to) {
+            int[] counts = new int[passes * BUCKETS];
+            int last = passes - 1;
+            for (int i = from; i < to; i++) {
+                long key = keys[i];
+                for (int pass = 0; pass < last; pass++) {
+                    counts[pass * BUCKETS + ((int) (key >>> (pass * RADIX_BITS)) & MASK)]++;
+                }
+                counts[last * BUCKETS + ((int) (key >>> (last * RADIX_BITS)) & MASK ^ SIGN_FLIP)]++;
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.edu.infnet.bubblesort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Converte registros para o formato binário usado nos arquivos temporários da ordenação externa.
+ *
+ * @param <T> o tipo dos registros
+ * @see ExternalMergeSort
+ */
+public interface RecordCodec<T> {
+    /**
+     * Grava um registro.
+     *
+     * @param out    destino dos bytes
+     * @param record registro a ser gravado
+     * @throws IOException se a escrita falhar
+     */
+    void write(DataOutput out, T record) throws IOException;
+
+    /**
+     * Lê um registro gravado por {@link #write}.
+     *
+     * @param in origem dos bytes
+     * @return o registro lido
+     * @throws IOException se a leitura falhar
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Estimativa de quantos bytes de heap o registro ocupa, usada para respeitar o orçamento de memória.
+     *
+     * @param record registro a ser medido
+     * @return tamanho estimado em bytes
+     */
+    default long estimatedSize(T record) {
+        return 64;
+    }
+}
@@ -0,0 +1,397 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Seleção e ordenação parcial, para quando só os menores elementos ou uma posição específica da
+ * ordem interessam e ordenar o array inteiro seria desperdício.
+ *
+ * <p>As operações existem para arrays de {@link Comparable} e para {@code int}, {@code long} e
+ * {@code double}; as versões de {@code double} usam a ordem de {@link Double#compare}. Nenhuma
+ * delas é estável nem aloca memória além do array de resultado de {@code topK}.
+ */
+final class Selection {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Selection() {
+    }
+
+    /**
+     * Retorna os {@code k} menores elementos do array, em ordem crescente, sem modificar a entrada.
+     * Mantém um heap máximo de tamanho {@code k} no próprio array de resultado: O(n log k) no pior
+     * caso, próximo de O(n + k log k) quando poucos elementos entram no heap.
+     *
+     * @param array o array de entrada
+     * @param k     quantidade de elementos desejados, entre 0 e {@code array.length}
+     * @return novo array com os {@code k} menores elementos, ordenados
+     */
+    static <T extends Comparable<T>> T[] topK(T[] array, int k) {
+        checkK(k, array.length);
+        T[] result = Arrays.copyOf(array, k);
+        if (k == 0) {
+            return result;
+        }
+        for (int i = (k >>> 1) - 1; i >= 0; i--) {
+            SortUtils.siftDown(result, 0, i, k);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (SortUtils.less(array[i], result[0])) {
+                result[0] = array[i];
+                SortUtils.siftDown(result, 0, 0, k);
+            }
+        }
+        SortUtils.heapSort(result, 0, k);
+        return result;
+    }
+
+    /**
+     * Reorganiza o array de forma que a posição {@code n} contenha o elemento que estaria nela se o
+     * array fosse ordenado, com todos os anteriores menores ou iguais e todos os posteriores maiores
+     * ou iguais a ele. Usa introselect: quickselect com partição em três vias e mediana de três, que
+     * recorre a heapsort do intervalo restante se a profundidade passar de {@code 2 log n}.
+     *
+     * @param array o array a ser reorganizado
+     * @param n     posição desejada na ordem crescente
+     * @return o elemento na posição {@code n}
+     */
+    static <T extends Comparable<T>> T nthElement(T[] array, int n) {
+        Objects.checkIndex(n, array.length);
+        select(array, 0, array.length - 1, n);
+        return array[n];
+    }
+
+    /**
+     * Ordena apenas os {@code k} primeiros elementos: ao final, {@code array[0, k)} contém os
+     * {@code k} menores em ordem crescente e o restante fica em ordem não especificada.
+     * Executa em O(n + k log k) sem memória adicional.
+     *
+     * @param array o array a ser parcialmente ordenado
+     * @param k     quantidade de elementos ordenados, entre 0 e {@code array.length}
+     * @return o mesmo array
+     */
+    static <T extends Comparable<T>> T[] partialSort(T[] array, int k) {
+        checkK(k, array.length);
+        if (k == 0) {
+            return array;
+        }
+        if (k < array.length) {
+            select(array, 0, array.length - 1, k - 1);
+        }
+        SortUtils.heapSort(array, 0, k);
+        return array;
+    }
+
+    private static <T extends Comparable<T>> void select(T[] array, int lo, int hi, int n) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi > lo) {
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                SortUtils.insertionSort(array, lo, hi + 1);
+                return;
+            }
+            if (depthLimit-- == 0) {
+                SortUtils.heapSort(array, lo, hi + 1);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            sortThree(array, lo, mid, hi);
+            T pivot = array[mid];
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                if (SortUtils.less(array[i], pivot)) {
+                    SortUtils.swap(array, lt++, i++);
+                } else if (SortUtils.greater(array[i], pivot)) {
+                    SortUtils.swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ordena {@code array[a]}, {@code array[b]} e {@code array[c]} entre si, deixando a mediana em {@code b}.
+     */
+    private static <T extends Comparable<T>> void sortThree(T[] array, int a, int b, int c) {
+        if (SortUtils.less(array[b], array[a])) {
+            SortUtils.swap(array, a, b);
+        }
+        if (SortUtils.less(array[c], array[b])) {
+            SortUtils.swap(array, b, c);
+            if (SortUtils.less(array[b], array[a])) {
+                SortUtils.swap(array, a, b);
+            }
+        }
+    }
+
+    static int[] topK(int[] array, int k) {
+        checkK(k, array.length);
+        int[] result = Arrays.copyOf(array, k);
+        if (k == 0) {
+            return result;
+        }
+        for (int i = (k >>> 1) - 1; i >= 0; i--) {
+            SortUtils.siftDown(result, 0, i, k);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (array[i] < result[0]) {
+                result[0] = array[i];
+                SortUtils.siftDown(result, 0, 0, k);
+            }
+        }
+        SortUtils.heapSort(result, 0, k);
+        return result;
+    }
+
+    static int nthElement(int[] array, int n) {
+        Objects.checkIndex(n, array.length);
+        select(array, 0, array.length - 1, n);
+        return array[n];
+    }
+
+    static int[] partialSort(int[] array, int k) {
+        checkK(k, array.length);
+        if (k == 0) {
+            return array;
+        }
+        if (k < array.length) {
+            select(array, 0, array.length - 1, k - 1);
+        }
+        SortUtils.heapSort(array, 0, k);
+        return array;
+    }
+
+    private static void select(int[] array, int lo, int hi, int n) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi > lo) {
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                SortUtils.insertionSort(array, lo, hi + 1);
+                return;
+            }
+            if (depthLimit-- == 0) {
+                SortUtils.heapSort(array, lo, hi + 1);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            sortThree(array, lo, mid, hi);
+            int pivot = array[mid];
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                if (array[i] < pivot) {
+                    SortUtils.swap(array, lt++, i++);
+                } else if (array[i] > pivot) {
+                    SortUtils.swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void sortThree(int[] array, int a, int b, int c) {
+        if (array[b] < array[a]) {
+            SortUtils.swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            SortUtils.swap(array, b, c);
+            if (array[b] < array[a]) {
+                SortUtils.swap(array, a, b);
+            }
+        }
+    }
+
+    static long[] topK(long[] array, int k) {
+        checkK(k, array.length);
+        long[] result = Arrays.copyOf(array, k);
+        if (k == 0) {
+            return result;
+        }
+        for (int i = (k >>> 1) - 1; i >= 0; i--) {
+            SortUtils.siftDown(result, 0, i, k);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (array[i] < result[0]) {
+                result[0] = array[i];
+                SortUtils.siftDown(result, 0, 0, k);
+            }
+        }
+        SortUtils.heapSort(result, 0, k);
+        return result;
+    }
+
+    static long nthElement(long[] array, int n) {
+        Objects.checkIndex(n, array.length);
+        select(array, 0, array.length - 1, n);
+        return array[n];
+    }
+
+    static long[] partialSort(long[] array, int k) {
+        checkK(k, array.length);
+        if (k == 0) {
+            return array;
+        }
+        if (k < array.length) {
+            select(array, 0, array.length - 1, k - 1);
+        }
+        SortUtils.heapSort(array, 0, k);
+        return array;
+    }
+
+    private static void select(long[] array, int lo, int hi, int n) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi > lo) {
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                SortUtils.insertionSort(array, lo, hi + 1);
+                return;
+            }
+            if (depthLimit-- == 0) {
+                SortUtils.heapSort(array, lo, hi + 1);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            sortThree(array, lo, mid, hi);
+            long pivot = array[mid];
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                if (array[i] < pivot) {
+                    SortUtils.swap(array, lt++, i++);
+                } else if (array[i] > pivot) {
+                    SortUtils.swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void sortThree(long[] array, int a, int b, int c) {
+        if (array[b] < array[a]) {
+            SortUtils.swap(array, a, b);
+        }
+        if (array[c] < array[b]) {
+            SortUtils.swap(array, b, c);
+            if (array[b] < array[a]) {
+                SortUtils.swap(array, a, b);
+            }
+        }
+    }
+
+    static double[] topK(double[] array, int k) {
+        checkK(k, array.length);
+        double[] result = Arrays.copyOf(array, k);
+        if (k == 0) {
+            return result;
+        }
+        for (int i = (k >>> 1) - 1; i >= 0; i--) {
+            SortUtils.siftDown(result, 0, i, k);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (Double.compare(array[i], result[0]) < 0) {
+                result[0] = array[i];
+                SortUtils.siftDown(result, 0, 0, k);
+            }
+        }
+        SortUtils.heapSort(result, 0, k);
+        return result;
+    }
+
+    static double nthElement(double[] array, int n) {
+        Objects.checkIndex(n, array.length);
+        select(array, 0, array.length - 1, n);
+        return array[n];
+    }
+
+    static double[] partialSort(double[] array, int k) {
+        checkK(k, array.length);
+        if (k == 0) {
+            return array;
+        }
+        if (k < array.length) {
+            select(array, 0, array.length - 1, k - 1);
+        }
+        SortUtils.heapSort(array, 0, k);
+        return array;
+    }
+
+    private static void select(double[] array, int lo, int hi, int n) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi > lo) {
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                SortUtils.insertionSort(array, lo, hi + 1);
+                return;
+            }
+            if (depthLimit-- == 0) {
+                SortUtils.heapSort(array, lo, hi + 1);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            sortThree(array, lo, mid, hi);
+            double pivot = array[mid];
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                if (Double.compare(array[i], pivot) < 0) {
+                    SortUtils.swap(array, lt++, i++);
+                } else if (Double.compare(array[i], pivot) > 0) {
+                    SortUtils.swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void sortThree(double[] array, int a, int b, int c) {
+        if (Double.compare(array[b], array[a]) < 0) {
+            SortUtils.swap(array, a, b);
+        }
+        if (Double.compare(array[c], array[b]) < 0) {
+            SortUtils.swap(array, b, c);
+            if (Double.compare(array[b], array[a]) < 0) {
+                SortUtils.swap(array, a, b);
+            }
+        }
+    }
+
+    private static void checkK(int k, int length) {
+        if (k < 0 || k > length) {
+            throw new IllegalArgumentException("k deve estar entre 0 e " + length + ": " + k);
+        }
+    }
+}
@@ -2,6 +2,11 @@ package br.edu.infnet.bubblesort;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 /**
  * Interface comum para algoritmos de ordenação
@@ -25,4 +30,81 @@ public interface SortAlgorithm {
     default<T extends Comparable<T>> List<T> sort(List<T> unsorted) {
         return Arrays.asList(sort(unsorted.toArray((T[]) new Comparable[unsorted.size()])));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Ordena a própria lista recebida, sem criar uma nova.
+     * Listas {@link RandomAccess} pequenas são ordenadas diretamente por insertion sort, sem cópia;
+     * nas demais os elementos são copiados uma vez para um array, ordenados por {@link #sort(Comparable[])}
+     * e gravados de volta em uma única passada de {@link ListIterator}, o que também serve para listas encadeadas.
+     *
+     * @param list - lista a ser ordenada, que precisa suportar {@link List#set}
+     * @return a mesma lista, ordenada
+     */
+    @SuppressWarnings("unchecked")
+    default <T extends Comparable<T>> List<T> sortInPlace(List<T> list) {
+        int size = list.size();
+        if (size < 2) {
+            return list;
+        }
+        if (list instanceof RandomAccess && size <= SortUtils.LIST_INSERTION_SORT_THRESHOLD) {
+            SortUtils.insertionSort(list);
+            return list;
+        }
+        T[] sorted = sort(list.toArray((T[]) new Comparable[size]));
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : sorted) {
+            iterator.next();
+            iterator.set(element);
+        }
+        return list;
+    }
+
+    /**
+     * Ordena um array de {@code int} no próprio array.
+     * A implementação padrão converte para {@code Integer[]} e delega para {@link #sort(Comparable[])};
+     * algoritmos devem sobrescrever este método com uma versão especializada, sem boxing.
+     *
+     * @param unsorted - array a ser ordenado
+     * @return o mesmo array, ordenado
+     */
+    default int[] sort(int[] unsorted) {
+        Integer[] boxed = sort(IntStream.of(unsorted).boxed().toArray(Integer[]::new));
+        for (int i = 0; i < boxed.length; i++) {
+            unsorted[i] = boxed[i];
+        }
+        return unsorted;
+    }
+
+    /**
+     * Ordena um array de {@code long} no próprio array.
+     * A implementação padrão converte para {@code Long[]} e delega para {@link #sort(Comparable[])};
+     * algoritmos devem sobrescrever este método com uma versão especializada, sem boxing.
+     *
+     * @param unsorted - array a ser ordenado
+     * @return o mesmo array, ordenado
+     */
+    default long[] sort(long[] unsorted) {
+        Long[] boxed = sort(LongStream.of(unsorted).boxed().toArray(Long[]::new));
+        for (int i = 0; i < boxed.length; i++) {
+            unsorted[i] = boxed[i];
+        }
+        return unsorted;
+    }
+
+    /**
+     * Ordena um array de {@code double} no próprio array, na mesma ordem de {@link Double#compare}
+     * ({@code -0.0} antes de {@code 0.0} e {@code NaN} ao final).
+     * A implementação padrão converte para {@code Double[]} e delega para {@link #sort(Comparable[])};
+     * algoritmos devem sobrescrever este método com uma versão especializada, sem boxing.
+     *
+     * @param unsorted - array a ser ordenado
+     * @return o mesmo array, ordenado
+     */
+    default double[] sort(double[] unsorted) {
+        Double[] boxed = sort(DoubleStream.of(unsorted).boxed().toArray(Double[]::new));
+        for (int i = 0; i < boxed.length; i++) {
+            unsorted[i] = boxed[i];
+        }
+        return unsorted;
+    }
+}
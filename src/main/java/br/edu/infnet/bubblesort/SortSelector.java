@@ -0,0 +1,381 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Escolhe, a cada chamada, o algoritmo mais adequado para a entrada.
+ *
+ * <p>Antes de ordenar, uma pequena amostra do array é inspecionada (veja {@link Presortedness}): a
+ * fração de descidas entre vizinhos ({@code a[i] > a[i + 1]}) estima quantas sequências naturais
+ * existem, a fração de pares aleatórios fora de ordem estima as inversões e a fração de repetições
+ * numa amostra ordenada estima quantos valores distintos existem. Cada estimativa só é calculada se
+ * as anteriores não decidiram o caminho. Com elas e com o tamanho e o tipo dos elementos, a entrada é
+ * encaminhada para:
+ * <ul>
+ *   <li>{@link Path#INSERTION}: arrays pequenos;</li>
+ *   <li>{@link Path#SORTED}: entradas sem descidas na amostra cuja ordenação é confirmada por
+ *   {@link Presortedness#isSorted(int[])}, que são devolvidas sem ordenar;</li>
+ *   <li>{@link Path#ADAPTIVE_MERGE}: entradas quase ordenadas ou quase invertidas, seja por poucas
+ *   descidas (ou subidas), seja por poucas inversões (ou quase todas), como quando os elementos estão
+ *   só um pouco fora do lugar; também objetos nos demais casos quando a estabilidade é exigida;</li>
+ *   <li>{@link Path#RADIX}: {@code int}, {@code long}, {@code double}, {@link Integer} ou {@link Long}
+ *   a partir de um tamanho mínimo;</li>
+ *   <li>{@link Path#PARALLEL}: entradas grandes, ordenadas por {@link ParallelMergeSort};</li>
+ *   <li>{@link Path#QUICK}: por {@link DualPivotQuickSort}, quando a estabilidade não é exigida, em
+ *   entradas com poucos valores distintos (antes do radix sort) e nos demais casos.</li>
+ * </ul>
+ *
+ * <p>A amostragem tem custo constante e é determinística para um mesmo array. A escolha de cada
+ * chamada é entregue ao {@link Listener} configurado e contabilizada em {@link #chosenCount(Path)}.
+ *
+ * @see SortAlgorithm
+ */
+class SortSelector implements SortAlgorithm {
+
+    /**
+     * Caminhos possíveis de ordenação.
+     */
+    enum Path {
+        /** Insertion sort direto, para arrays pequenos. */
+        INSERTION,
+        /** Nenhuma ordenação: a entrada já está ordenada. */
+        SORTED,
+        /** {@link AdaptiveMergeSort}, que aproveita sequências já ordenadas. */
+        ADAPTIVE_MERGE,
+        /** {@link DualPivotQuickSort}, no lugar e não estável. */
+        QUICK,
+        /** {@link RadixSort}, para chaves inteiras e {@code double}. */
+        RADIX,
+        /** {@link ParallelMergeSort}, para entradas grandes. */
+        PARALLEL
+    }
+
+    /**
+     * Fração de repetições na amostra a partir da qual a entrada é considerada de poucos valores
+     * distintos; o particionamento de três vias do {@link DualPivotQuickSort} agrupa os iguais e
+     * termina em poucas passadas, enquanto o radix sort faz todas as passadas pelo tamanho da chave.
+     */
+    static final double FEW_UNIQUE_RATIO = 0.9;
+
+    /**
+     * Recebe a escolha feita em cada chamada.
+     */
+    @FunctionalInterface
+    interface Listener {
+        void onChoice(Choice choice);
+    }
+
+    /**
+     * Escolha feita para uma chamada e as estimativas que a motivaram.
+     */
+    static final class Choice {
+        private final Path path;
+        private final int length;
+        private final Class<?> elementType;
+        private final double descentRatio;
+        private final double inversionRatio;
+        private final double duplicateRatio;
+
+        Choice(Path path, int length, Class<?> elementType, double descentRatio, double inversionRatio,
+               double duplicateRatio) {
+            this.path = path;
+            this.length = length;
+            this.elementType = elementType;
+            this.descentRatio = descentRatio;
+            this.inversionRatio = inversionRatio;
+            this.duplicateRatio = duplicateRatio;
+        }
+
+        /** Caminho escolhido. */
+        Path path() {
+            return path;
+        }
+
+        /** Tamanho do array. */
+        int length() {
+            return length;
+        }
+
+        /** Tipo declarado dos elementos, como {@code int.class} para {@code int[]}. */
+        Class<?> elementType() {
+            return elementType;
+        }
+
+        /** Fração estimada de vizinhos fora de ordem: 0 se ordenado, 1 se estritamente decrescente. */
+        double descentRatio() {
+            return descentRatio;
+        }
+
+        /**
+         * Fração estimada de pares fora de ordem: perto de 0,5 para entradas aleatórias; {@code NaN}
+         * se o caminho foi decidido antes desta estimativa.
+         */
+        double inversionRatio() {
+            return inversionRatio;
+        }
+
+        /**
+         * Fração estimada de elementos que repetem um valor: perto de 1 com poucos valores distintos;
+         * {@code NaN} se o caminho foi decidido antes desta estimativa.
+         */
+        double duplicateRatio() {
+            return duplicateRatio;
+        }
+
+        @Override
+        public String toString() {
+            return "Choice{path=" + path + ", length=" + length + ", elementType=" + elementType.getSimpleName()
+                    + ", descentRatio=" + descentRatio + ", inversionRatio=" + inversionRatio
+                    + ", duplicateRatio=" + duplicateRatio + '}';
+        }
+    }
+
+    /**
+     * Limites usados na escolha do caminho.
+     */
+    static final class Thresholds {
+
+        /**
+         * Limites padrão.
+         */
+        static final Thresholds DEFAULT = new Thresholds(32, 1 << 12, 1 << 17, 0.05, 128);
+
+        final int insertionSortMax;
+        final int radixMin;
+        final int parallelMin;
+        final double presortedRatio;
+        final int sampleSize;
+
+        /**
+         * @param insertionSortMax maior tamanho ordenado por insertion sort
+         * @param radixMin         menor tamanho ordenado por radix sort
+         * @param parallelMin      menor tamanho ordenado em paralelo
+         * @param presortedRatio   fração de descidas abaixo da qual (ou de subidas abaixo da qual) a
+         *                         entrada é considerada quase ordenada (ou quase invertida)
+         * @param sampleSize       número de vizinhos, de pares e de elementos inspecionados por chamada
+         */
+        Thresholds(int insertionSortMax, int radixMin, int parallelMin, double presortedRatio, int sampleSize) {
+            if (insertionSortMax < 1) {
+                throw new IllegalArgumentException("insertionSortMax deve ser positivo");
+            }
+            if (radixMin < 2 || parallelMin < 2) {
+                throw new IllegalArgumentException("radixMin e parallelMin devem ser maiores ou iguais a 2");
+            }
+            if (!(presortedRatio >= 0 && presortedRatio < 0.5)) {
+                throw new IllegalArgumentException("presortedRatio deve estar entre 0 e 0,5");
+            }
+            if (sampleSize < 1) {
+                throw new IllegalArgumentException("sampleSize deve ser positivo");
+            }
+            this.insertionSortMax = insertionSortMax;
+            this.radixMin = radixMin;
+            this.parallelMin = parallelMin;
+            this.presortedRatio = presortedRatio;
+            this.sampleSize = sampleSize;
+        }
+    }
+
+    private final Thresholds thresholds;
+    private final boolean stable;
+    private final Listener listener;
+    private final ForkJoinPool pool;
+    private final SortAlgorithm adaptive = new AdaptiveMergeSort();
+    private final SortAlgorithm quick = new DualPivotQuickSort();
+    private final SortAlgorithm radix;
+    private final SortAlgorithm parallel;
+    private final LongAdder[] counts = new LongAdder[Path.values().length];
+
+    /**
+     * Cria o seletor com os limites padrão, exigindo ordenação estável para objetos.
+     */
+    SortSelector() {
+        this(Thresholds.DEFAULT, true, choice -> { });
+    }
+
+    /**
+     * Cria o seletor usando o {@link ForkJoinPool#commonPool()}.
+     *
+     * @param thresholds limites usados na escolha do caminho
+     * @param stable     se a ordem relativa de objetos iguais deve ser preservada
+     * @param listener   recebe a escolha feita em cada chamada
+     */
+    SortSelector(Thresholds thresholds, boolean stable, Listener listener) {
+        this(thresholds, stable, listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param thresholds limites usados na escolha do caminho
+     * @param stable     se a ordem relativa de objetos iguais deve ser preservada
+     * @param listener   recebe a escolha feita em cada chamada
+     * @param pool       pool usado pelos caminhos paralelos
+     */
+    SortSelector(Thresholds thresholds, boolean stable, Listener listener, ForkJoinPool pool) {
+        this.thresholds = Objects.requireNonNull(thresholds, "thresholds não pode ser nulo");
+        this.stable = stable;
+        this.listener = Objects.requireNonNull(listener, "listener não pode ser nulo");
+        this.pool = Objects.requireNonNull(pool, "pool não pode ser nulo");
+        this.radix = new RadixSort(pool, RadixSort.DEFAULT_PARALLEL_THRESHOLD);
+        this.parallel = new ParallelMergeSort(pool, ParallelMergeSort.DEFAULT_CUTOFF);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Retorna quantas chamadas foram encaminhadas para o caminho desde a criação do seletor.
+     *
+     * @param path o caminho
+     * @return número de chamadas
+     */
+    long chosenCount(Path path) {
+        return counts[path.ordinal()].sum();
+    }
+
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        boolean radixKeys = array[0] instanceof Integer || array[0] instanceof Long;
+        switch (choose(array.length, array.getClass().getComponentType(), radixKeys, !stable,
+                (i, j) -> array[i].compareTo(array[j]), () -> Presortedness.isSorted(array, pool,
+                        Presortedness.DEFAULT_PARALLEL_THRESHOLD))) {
+            case INSERTION:
+                SortUtils.insertionSort(array, 0, array.length);
+                return array;
+            case SORTED:
+                return array;
+            case ADAPTIVE_MERGE:
+                return adaptive.sort(array);
+            case QUICK:
+                return quick.sort(array);
+            case RADIX:
+                return radix.sort(array);
+            default:
+                return parallel.sort(array);
+        }
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        switch (choose(array.length, int.class, true, true, (i, j) -> Integer.compare(array[i], array[j]),
+                () -> Presortedness.isSorted(array, pool, Presortedness.DEFAULT_PARALLEL_THRESHOLD))) {
+            case INSERTION:
+                SortUtils.insertionSort(array, 0, array.length);
+                return array;
+            case SORTED:
+                return array;
+            case ADAPTIVE_MERGE:
+                return adaptive.sort(array);
+            case QUICK:
+                return quick.sort(array);
+            case RADIX:
+                return radix.sort(array);
+            default:
+                return parallel.sort(array);
+        }
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        switch (choose(array.length, long.class, true, true, (i, j) -> Long.compare(array[i], array[j]),
+                () -> Presortedness.isSorted(array, pool, Presortedness.DEFAULT_PARALLEL_THRESHOLD))) {
+            case INSERTION:
+                SortUtils.insertionSort(array, 0, array.length);
+                return array;
+            case SORTED:
+                return array;
+            case ADAPTIVE_MERGE:
+                return adaptive.sort(array);
+            case QUICK:
+                return quick.sort(array);
+            case RADIX:
+                return radix.sort(array);
+            default:
+                return parallel.sort(array);
+        }
+    }
+
+    @Override
+    public double[] sort(double[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        switch (choose(array.length, double.class, true, true, (i, j) -> Double.compare(array[i], array[j]),
+                () -> Presortedness.isSorted(array, pool, Presortedness.DEFAULT_PARALLEL_THRESHOLD))) {
+            case INSERTION:
+                SortUtils.insertionSort(array, 0, array.length);
+                return array;
+            case SORTED:
+                return array;
+            case ADAPTIVE_MERGE:
+                return adaptive.sort(array);
+            case QUICK:
+                return quick.sort(array);
+            case RADIX:
+                return radix.sort(array);
+            default:
+                return parallel.sort(array);
+        }
+    }
+
+    /**
+     * Estima a ordenação prévia, escolhe o caminho, notifica o listener e contabiliza a escolha.
+     *
+     * @param radixKeys  se os elementos podem ser ordenados por radix sort
+     * @param unstableOk se um algoritmo não estável pode ser usado
+     * @param sorted     verifica o array inteiro quando a amostra não tem descidas
+     */
+    private Path choose(int length, Class<?> elementType, boolean radixKeys, boolean unstableOk,
+                        Presortedness.IndexComparator comparator, BooleanSupplier sorted) {
+        double descentRatio = 0;
+        double inversionRatio = Double.NaN;
+        double duplicateRatio = Double.NaN;
+        Path path;
+        if (length <= thresholds.insertionSortMax) {
+            path = Path.INSERTION;
+        } else {
+            descentRatio = Presortedness.sampledDescentRatio(length, thresholds.sampleSize, comparator);
+            if (descentRatio == 0 && sorted.getAsBoolean()) {
+                path = Path.SORTED;
+            } else if (isPresorted(descentRatio)) {
+                path = Path.ADAPTIVE_MERGE;
+            } else {
+                inversionRatio = Presortedness.sampledInversionRatio(length, thresholds.sampleSize, comparator);
+                if (unstableOk && !isPresorted(inversionRatio)) {
+                    duplicateRatio = Presortedness.sampledDuplicateRatio(length, thresholds.sampleSize, comparator);
+                }
+                if (isPresorted(inversionRatio)) {
+                    path = Path.ADAPTIVE_MERGE;
+                } else if (unstableOk && duplicateRatio >= FEW_UNIQUE_RATIO) {
+                    path = Path.QUICK;
+                } else if (radixKeys && length >= thresholds.radixMin) {
+                    path = Path.RADIX;
+                } else if (length >= thresholds.parallelMin) {
+                    path = Path.PARALLEL;
+                } else {
+                    path = unstableOk ? Path.QUICK : Path.ADAPTIVE_MERGE;
+                }
+            }
+        }
+        counts[path.ordinal()].increment();
+        listener.onChoice(new Choice(path, length, elementType, descentRatio, inversionRatio, duplicateRatio));
+        return path;
+    }
+
+    /**
+     * Se a fração estimada (de descidas ou de inversões) indica entrada quase ordenada ou quase invertida.
+     */
+    private boolean isPresorted(double ratio) {
+        return ratio <= thresholds.presortedRatio || ratio >= 1 - thresholds.presortedRatio;
+    }
+}
@@ -2,15 +2,92 @@ package br.edu.infnet.bubblesort;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * Utility class for sorting algorithms.
  */
 final class SortUtils {
+    /**
+     * Maximum size of a {@link java.util.RandomAccess} list sorted in place by insertion sort
+     * instead of being copied to an array.
+     */
+    static final int LIST_INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Operation counter of the current thread while {@link #startCounting()} is in effect on it.
+     */
+    private static final ThreadLocal<OperationCounter> COUNTER = new ThreadLocal<>();
+
+    /**
+     * Number of threads currently counting. While it is zero, {@link #less}, {@link #greater},
+     * {@link #greaterOrEqual} and {@link #swap(Object[], int, int)} skip the thread-local lookup and
+     * pay a single volatile read.
+     */
+    private static final AtomicInteger COUNTING_THREADS = new AtomicInteger();
+
     private SortUtils() {
     }
 
+    /**
+     * Comparisons and swaps made by one thread between {@link #startCounting()} and
+     * {@link #stopCounting(OperationCounter)}. Primitive paths are not counted.
+     */
+    static final class OperationCounter {
+        long comparisons;
+        long swaps;
+        private int depth;
+    }
+
+    /**
+     * Starts counting the operations made by the current thread. Calls may be nested; each one must
+     * be paired with {@link #stopCounting(OperationCounter)} on the same thread.
+     *
+     * @return the counter of the current thread
+     */
+    static OperationCounter startCounting() {
+        OperationCounter counter = COUNTER.get();
+        if (counter == null) {
+            counter = new OperationCounter();
+            COUNTER.set(counter);
+            COUNTING_THREADS.incrementAndGet();
+        }
+        counter.depth++;
+        return counter;
+    }
+
+    /**
+     * Stops counting on the current thread once the outermost {@link #startCounting()} is closed.
+     * The counter keeps its values and can still be read.
+     *
+     * @param counter the counter returned by {@link #startCounting()}
+     */
+    static void stopCounting(OperationCounter counter) {
+        if (--counter.depth == 0) {
+            COUNTER.remove();
+            COUNTING_THREADS.decrementAndGet();
+        }
+    }
+
+    private static void countComparison() {
+        if (COUNTING_THREADS.get() != 0) {
+            OperationCounter counter = COUNTER.get();
+            if (counter != null) {
+                counter.comparisons++;
+            }
+        }
+    }
+
+    private static void countSwap() {
+        if (COUNTING_THREADS.get() != 0) {
+            OperationCounter counter = COUNTER.get();
+            if (counter != null) {
+                counter.swaps++;
+            }
+        }
+    }
+
     /**
      * Swaps two elements at the given positions in an array.
      *
@@ -21,6 +98,7 @@ final class SortUtils {
      */
     public static <T> void swap(T[] array, int i, int j) {
         if (i != j) {
+            countSwap();
             final T temp = array[i];
             array[i] = array[j];
             array[j] = temp;
@@ -35,6 +113,7 @@ final class SortUtils {
      * @return true if the first element is less than the second, false otherwise
      */
     public static <T extends Comparable<T>> boolean less(T firstElement, T secondElement) {
+        countComparison();
         return firstElement.compareTo(secondElement) < 0;
     }
 
@@ -46,6 +125,7 @@ final class SortUtils {
      * @return true if the first element is greater than the second, false otherwise
      */
     public static <T extends Comparable<T>> boolean greater(T firstElement, T secondElement) {
+        countComparison();
         return firstElement.compareTo(secondElement) > 0;
     }
 
@@ -57,6 +137,7 @@ final class SortUtils {
      * @return true if the first element is greater than or equal to the second, false otherwise
      */
     static <T extends Comparable<T>> boolean greaterOrEqual(T firstElement, T secondElement) {
+        countComparison();
         return firstElement.compareTo(secondElement) >= 0;
     }
 
@@ -121,4 +202,402 @@ final class SortUtils {
         }
         return true;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Sorts a list in place with a stable insertion sort, using only {@code get} and {@code set}.
+     * Meant for small {@link java.util.RandomAccess} lists, where it avoids copying to an array.
+     *
+     * @param list the list to sort
+     */
+    static <T extends Comparable<T>> void insertionSort(List<T> list) {
+        for (int i = 1, size = list.size(); i < size; i++) {
+            T current = list.get(i);
+            int j = i - 1;
+            while (j >= 0 && greater(list.get(j), current)) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, current);
+        }
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in place with a stable insertion sort.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static <T extends Comparable<T>> void insertionSort(T[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= from && greater(array[j], current)) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Sorts {@code array[from, to)} of a {@code int} array in place with a stable insertion sort.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = array[i];
+            int j = i - 1;
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Sorts {@code array[from, to)} of a {@code long} array in place with a stable insertion sort.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static void insertionSort(long[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long current = array[i];
+            int j = i - 1;
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Sorts {@code array[from, to)} of a {@code double} array in place with a stable insertion sort.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static void insertionSort(double[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double current = array[i];
+            int j = i - 1;
+            while (j >= from && Double.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Swaps two elements at the given positions in an {@code int} array.
+     *
+     * @param array the array in which to swap elements
+     * @param i     the index of the first element to swap
+     * @param j     the index of the second element to swap
+     */
+    public static void swap(int[] array, int i, int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Swaps two elements at the given positions in a {@code long} array.
+     *
+     * @param array the array in which to swap elements
+     * @param i     the index of the first element to swap
+     * @param j     the index of the second element to swap
+     */
+    public static void swap(long[] array, int i, int j) {
+        final long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Swaps two elements at the given positions in a {@code double} array.
+     *
+     * @param array the array in which to swap elements
+     * @param i     the index of the first element to swap
+     * @param j     the index of the second element to swap
+     */
+    public static void swap(double[] array, int i, int j) {
+        final double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Flips the order of elements in the specified range of an {@code int} array.
+     *
+     * @param array the array whose elements are to be flipped
+     * @param left  the left boundary of the range to be flipped (inclusive)
+     * @param right the right boundary of the range to be flipped (inclusive)
+     */
+    public static void flip(int[] array, int left, int right) {
+        while (left < right) {
+            swap(array, left++, right--);
+        }
+    }
+
+    /**
+     * Flips the order of elements in the specified range of a {@code long} array.
+     *
+     * @param array the array whose elements are to be flipped
+     * @param left  the left boundary of the range to be flipped (inclusive)
+     * @param right the right boundary of the range to be flipped (inclusive)
+     */
+    public static void flip(long[] array, int left, int right) {
+        while (left < right) {
+            swap(array, left++, right--);
+        }
+    }
+
+    /**
+     * Flips the order of elements in the specified range of a {@code double} array.
+     *
+     * @param array the array whose elements are to be flipped
+     * @param left  the left boundary of the range to be flipped (inclusive)
+     * @param right the right boundary of the range to be flipped (inclusive)
+     */
+    public static void flip(double[] array, int left, int right) {
+        while (left < right) {
+            swap(array, left++, right--);
+        }
+    }
+
+    /**
+     * Checks whether the {@code int} array is sorted in ascending order.
+     *
+     * @param array the array to check
+     * @return true if the array is sorted in ascending order, false otherwise
+     */
+    public static boolean isSorted(int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] < array[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the {@code long} array is sorted in ascending order.
+     *
+     * @param array the array to check
+     * @return true if the array is sorted in ascending order, false otherwise
+     */
+    public static boolean isSorted(long[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] < array[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the {@code double} array is sorted in ascending order,
+     * using the total order of {@link Double#compare}.
+     *
+     * @param array the array to check
+     * @return true if the array is sorted in ascending order, false otherwise
+     */
+    public static boolean isSorted(double[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (Double.compare(array[i], array[i - 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in place with heapsort: O(n log n) in the worst case and no
+     * extra memory. Not stable.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static <T extends Comparable<T>> void heapSort(T[] array, int from, int to) {
+        int size = to - from;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    /**
+     * Restores the max-heap property of a heap stored in {@code heap[base, base + size)} by moving
+     * the element at {@code index} (relative to {@code base}) down.
+     *
+     * @param heap  the array holding the heap
+     * @param base  the index where the heap starts
+     * @param index the heap index of the element to move down
+     * @param size  the number of elements in the heap
+     */
+    static <T extends Comparable<T>> void siftDown(T[] heap, int base, int index, int size) {
+        T value = heap[base + index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && less(heap[base + child], heap[base + child + 1])) {
+                child++;
+            }
+            if (!less(value, heap[base + child])) {
+                break;
+            }
+            heap[base + index] = heap[base + child];
+            index = child;
+        }
+        heap[base + index] = value;
+    }
+
+    /**
+     * Sorts {@code array[from, to)} of a {@code int} array in place with heapsort: O(n log n) in the worst case and no
+     * extra memory. Not stable.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static void heapSort(int[] array, int from, int to) {
+        int size = to - from;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    /**
+     * Restores the max-heap property of a {@code int} heap stored in {@code heap[base, base + size)} by moving
+     * the element at {@code index} (relative to {@code base}) down.
+     *
+     * @param heap  the array holding the heap
+     * @param base  the index where the heap starts
+     * @param index the heap index of the element to move down
+     * @param size  the number of elements in the heap
+     */
+    static void siftDown(int[] heap, int base, int index, int size) {
+        int value = heap[base + index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[base + child] < heap[base + child + 1]) {
+                child++;
+            }
+            if (value >= heap[base + child]) {
+                break;
+            }
+            heap[base + index] = heap[base + child];
+            index = child;
+        }
+        heap[base + index] = value;
+    }
+
+    /**
+     * Sorts {@code array[from, to)} of a {@code long} array in place with heapsort: O(n log n) in the worst case and no
+     * extra memory. Not stable.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static void heapSort(long[] array, int from, int to) {
+        int size = to - from;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    /**
+     * Restores the max-heap property of a {@code long} heap stored in {@code heap[base, base + size)} by moving
+     * the element at {@code index} (relative to {@code base}) down.
+     *
+     * @param heap  the array holding the heap
+     * @param base  the index where the heap starts
+     * @param index the heap index of the element to move down
+     * @param size  the number of elements in the heap
+     */
+    static void siftDown(long[] heap, int base, int index, int size) {
+        long value = heap[base + index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[base + child] < heap[base + child + 1]) {
+                child++;
+            }
+            if (value >= heap[base + child]) {
+                break;
+            }
+            heap[base + index] = heap[base + child];
+            index = child;
+        }
+        heap[base + index] = value;
+    }
+
+    /**
+     * Sorts {@code array[from, to)} of a {@code double} array in place with heapsort: O(n log n) in the worst case and no
+     * extra memory. Not stable.
+     *
+     * @param array the array to sort
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     */
+    static void heapSort(double[] array, int from, int to) {
+        int size = to - from;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    /**
+     * Restores the max-heap property of a {@code double} heap stored in {@code heap[base, base + size)} by moving
+     * the element at {@code index} (relative to {@code base}) down.
+     *
+     * @param heap  the array holding the heap
+     * @param base  the index where the heap starts
+     * @param index the heap index of the element to move down
+     * @param size  the number of elements in the heap
+     */
+    static void siftDown(double[] heap, int base, int index, int size) {
+        double value = heap[base + index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && Double.compare(heap[base + child], heap[base + child + 1]) < 0) {
+                child++;
+            }
+            if (Double.compare(value, heap[base + child]) >= 0) {
+                break;
+            }
+            heap[base + index] = heap[base + child];
+            index = child;
+        }
+        heap[base + index] = value;
+    }
+}
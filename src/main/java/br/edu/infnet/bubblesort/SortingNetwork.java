@@ -0,0 +1,166 @@
+package br.edu.infnet.bubblesort;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Ordenação de blocos pequenos por uma rede de ordenação vetorizada, quando a Vector API está
+ * disponível, ou por insertion sort, caso contrário.
+ *
+ * <p>A rede fica em {@code VectorSortingNetwork}, num diretório de fontes separado
+ * ({@code src/vector/java}) que só é compilado com o perfil Maven {@code vector}, porque a Vector API
+ * ({@code jdk.incubator.vector}) exige {@code --add-modules jdk.incubator.vector} para compilar e
+ * para executar. A classe é procurada uma única vez por reflexão e, se ela ou o módulo não estiverem
+ * disponíveis, todos os métodos usam insertion sort.
+ *
+ * <p>Os algoritmos só trocam o insertion sort das folhas por esta rede se a propriedade de sistema
+ * {@value #LEAF_PROPERTY} for {@code true}, porque a Vector API é lenta antes de ser compilada pelo
+ * C2 e o ganho depende do hardware; os benchmarks JMH comparam as duas opções.
+ */
+final class SortingNetwork {
+
+    /**
+     * Maior bloco ordenado pela rede.
+     */
+    static final int MAX_BLOCK = 64;
+
+    /**
+     * Menor bloco em que a rede compensa a cópia para o buffer.
+     */
+    static final int MIN_BLOCK = 8;
+
+    /**
+     * Propriedade de sistema que liga a rede nas folhas dos algoritmos.
+     */
+    static final String LEAF_PROPERTY = "br.edu.infnet.bubblesort.sortingNetwork";
+
+    private static final String NETWORK_CLASS = "br.edu.infnet.bubblesort.VectorSortingNetwork";
+
+    private static final MethodHandle INT_NETWORK = find(int[].class);
+    private static final MethodHandle LONG_NETWORK = find(long[].class);
+    private static final MethodHandle DOUBLE_NETWORK = find(double[].class);
+
+    /**
+     * Se a Vector API está disponível nesta JVM.
+     */
+    static final boolean VECTORIZED = detect();
+
+    /**
+     * Se os algoritmos devem usar a rede nas folhas.
+     */
+    static final boolean LEAF_ENABLED = VECTORIZED && Boolean.getBoolean(LEAF_PROPERTY);
+
+    private SortingNetwork() {
+    }
+
+    /**
+     * Ordena {@code array[from, to)}.
+     *
+     * @param array o array
+     * @param from  início do trecho (inclusivo)
+     * @param to    fim do trecho (exclusivo)
+     */
+    static void sort(int[] array, int from, int to) {
+        if (useNetwork(to - from)) {
+            try {
+                INT_NETWORK.invokeExact(array, from, to);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        } else {
+            SortUtils.insertionSort(array, from, to);
+        }
+    }
+
+    /**
+     * Ordena {@code array[from, to)}.
+     *
+     * @param array o array
+     * @param from  início do trecho (inclusivo)
+     * @param to    fim do trecho (exclusivo)
+     */
+    static void sort(long[] array, int from, int to) {
+        if (useNetwork(to - from)) {
+            try {
+                LONG_NETWORK.invokeExact(array, from, to);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        } else {
+            SortUtils.insertionSort(array, from, to);
+        }
+    }
+
+    /**
+     * Ordena {@code array[from, to)} na ordem de {@link Double#compare}.
+     *
+     * @param array o array
+     * @param from  início do trecho (inclusivo)
+     * @param to    fim do trecho (exclusivo)
+     */
+    static void sort(double[] array, int from, int to) {
+        if (useNetwork(to - from)) {
+            try {
+                DOUBLE_NETWORK.invokeExact(array, from, to);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        } else {
+            SortUtils.insertionSort(array, from, to);
+        }
+    }
+
+    private static boolean useNetwork(int length) {
+        return VECTORIZED && length >= MIN_BLOCK && length <= MAX_BLOCK;
+    }
+
+    /**
+     * Procura {@code VectorSortingNetwork.sort} para o tipo de array, ou retorna {@code null} se o
+     * módulo ou a classe não estiverem disponíveis.
+     */
+    private static MethodHandle find(Class<?> arrayType) {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> network = Class.forName(NETWORK_CLASS, true, SortingNetwork.class.getClassLoader());
+            return MethodHandles.lookup().findStatic(network, "sort",
+                    MethodType.methodType(void.class, arrayType, int.class, int.class));
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean detect() {
+        if (INT_NETWORK == null || LONG_NETWORK == null || DOUBLE_NETWORK == null) {
+            return false;
+        }
+        try {
+            int[] probe = {3, 1, 2, 0, 7, 5, 6, 4};
+            INT_NETWORK.invokeExact(probe, 0, probe.length);
+            for (int i = 0; i < probe.length; i++) {
+                if (probe[i] != i) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Relança erros e exceções não verificadas da rede como estão; a rede não declara exceções
+     * verificadas.
+     */
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,238 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Quicksort de três vias por caractere (multikey quicksort) para arrays de {@link String}.
+ *
+ * <p>Cada partição compara apenas o caractere na profundidade {@code d} de cada string e divide o
+ * trecho em menores, iguais e maiores que o caractere do pivô; só o trecho dos iguais avança para
+ * {@code d + 1}. Assim, um prefixo comum é lido uma única vez por string, em vez de a cada
+ * {@code compareTo}, e o custo depende do prefixo que distingue as strings, não do seu tamanho
+ * total. Trechos pequenos são ordenados por insertion sort comparando a partir de {@code d} e, se a
+ * recursão ficar profunda demais, o trecho é ordenado com heapsort.
+ *
+ * <p>A ordem é a mesma de {@link String#compareTo} (por unidades UTF-16) e a ordenação não é
+ * estável. Com um {@link ForkJoinPool}, trechos grandes são ordenados em paralelo. Arrays com
+ * elementos de outros tipos e arrays primitivos são delegados ao {@link DualPivotQuickSort}.
+ *
+ * @see SortAlgorithm
+ */
+class StringQuickSort implements SortAlgorithm {
+
+    /**
+     * Tamanho padrão a partir do qual um trecho é ordenado numa tarefa própria.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final SortAlgorithm fallback = new DualPivotQuickSort();
+
+    /**
+     * Cria o algoritmo sequencial.
+     */
+    StringQuickSort() {
+        this.pool = null;
+        this.parallelThreshold = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Cria o algoritmo com partições paralelas.
+     *
+     * @param pool              pool usado nas partições paralelas
+     * @param parallelThreshold tamanho a partir do qual um trecho é ordenado numa tarefa própria
+     */
+    StringQuickSort(ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold <= INSERTION_SORT_THRESHOLD) {
+            throw new IllegalArgumentException("parallelThreshold deve ser maior que " + INSERTION_SORT_THRESHOLD);
+        }
+        this.pool = Objects.requireNonNull(pool, "pool não pode ser nulo");
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Ordena por caractere se todos os elementos forem {@link String}; caso contrário, delega ao
+     * {@link DualPivotQuickSort}.
+     *
+     * @param array o array a ser ordenado.
+     * @param <T> o tipo dos elementos no array.
+     * @return o array ordenado.
+     */
+    @Override
+    public <T extends Comparable<T>> T[] sort(T[] array) {
+        if (array.length < 2) {
+            return array;
+        }
+        for (T element : array) {
+            if (element.getClass() != String.class) {
+                return fallback.sort(array);
+            }
+        }
+        SortTask task = new SortTask(array, 0, array.length - 1, 0, DualPivotQuickSort.depthLimit(array.length),
+                parallelThreshold);
+        if (pool != null && array.length >= parallelThreshold) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+        return array;
+    }
+
+    @Override
+    public int[] sort(int[] array) {
+        return fallback.sort(array);
+    }
+
+    @Override
+    public long[] sort(long[] array) {
+        return fallback.sort(array);
+    }
+
+    @Override
+    public double[] sort(double[] array) {
+        return fallback.sort(array);
+    }
+
+    /**
+     * Caractere da string na posição {@code d}, ou -1 depois do fim, para que strings mais curtas
+     * venham antes das que as estendem.
+     */
+    private static int charAt(Object element, int d) {
+        String string = (String) element;
+        return d < string.length() ? string.charAt(d) : -1;
+    }
+
+    /**
+     * Compara duas strings que têm os primeiros {@code d} caracteres iguais.
+     */
+    private static int compareFrom(Object first, Object second, int d) {
+        String a = (String) first;
+        String b = (String) second;
+        int length = Math.min(a.length(), b.length());
+        for (int i = d; i < length; i++) {
+            int difference = a.charAt(i) - b.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    private static void insertionSort(Object[] array, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; i++) {
+            Object current = array[i];
+            int j = i - 1;
+            while (j >= lo && compareFrom(array[j], current, d) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Posição, entre {@code a}, {@code b} e {@code c}, da string com o caractere mediano em {@code d}.
+     */
+    private static int medianOfThree(Object[] array, int a, int b, int c, int d) {
+        int x = charAt(array[a], d);
+        int y = charAt(array[b], d);
+        int z = charAt(array[c], d);
+        if (x < y) {
+            return y < z ? b : x < z ? c : a;
+        }
+        return x < z ? a : y < z ? c : b;
+    }
+
+    /**
+     * Ordena {@code array[lo, hi]}, cujas strings têm os primeiros {@code d} caracteres iguais.
+     * Os trechos dos menores e dos maiores são ordenados recursivamente (em tarefas próprias, se
+     * forem grandes) e o trecho dos iguais é processado no próprio laço, na profundidade seguinte.
+     * Só as chamadas recursivas consomem o limite {@code depth}, então prefixos comuns longos não
+     * levam ao heapsort.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final Object[] array;
+        private final int parallelThreshold;
+        private int lo;
+        private int hi;
+        private int d;
+        private int depth;
+
+        SortTask(Object[] array, int lo, int hi, int d, int depth, int parallelThreshold) {
+            this.array = array;
+            this.lo = lo;
+            this.hi = hi;
+            this.d = d;
+            this.depth = depth;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            while (hi - lo + 1 > INSERTION_SORT_THRESHOLD) {
+                if (depth == 0) {
+                    heapSort(array, lo, hi + 1);
+                    return;
+                }
+                SortUtils.swap(array, lo, medianOfThree(array, lo, (lo + hi) >>> 1, hi, d));
+                int pivot = charAt(array[lo], d);
+                int lt = lo;
+                int gt = hi;
+                int i = lo + 1;
+                while (i <= gt) {
+                    int c = charAt(array[i], d);
+                    if (c < pivot) {
+                        SortUtils.swap(array, lt++, i++);
+                    } else if (c > pivot) {
+                        SortUtils.swap(array, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+                SortTask less = sort(lo, lt - 1);
+                SortTask greater = sort(gt + 1, hi);
+                if (less != null) {
+                    less.join();
+                }
+                if (greater != null) {
+                    greater.join();
+                }
+                if (pivot < 0) {
+                    return;
+                }
+                lo = lt;
+                hi = gt;
+                d++;
+            }
+            insertionSort(array, lo, hi, d);
+        }
+
+        /**
+         * Ordena o trecho agora ou, se for grande, numa tarefa própria.
+         *
+         * @return a tarefa criada, ou {@code null} se o trecho já foi ordenado
+         */
+        private SortTask sort(int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            SortTask task = new SortTask(array, from, to, d, depth - 1, parallelThreshold);
+            if (to - from + 1 >= parallelThreshold && getPool() != null) {
+                task.fork();
+                return task;
+            }
+            task.compute();
+            return null;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static void heapSort(Object[] array, int from, int to) {
+            SortUtils.heapSort((Comparable[]) array, from, to);
+        }
+    }
+}
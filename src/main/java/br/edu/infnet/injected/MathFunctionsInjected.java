@@ -1,5 +1,6 @@
 package br.edu.infnet.injected;
 
+import br.edu.infnet.MathFunctions;
 import br.edu.infnet.logger.MathLogger;
 import java.util.Arrays;
 
@@ -17,20 +18,12 @@ public class MathFunctionsInjected {
 
     public int[] generateMultiplicationTable(int number, int limit) {
         logger.log("generateMultiplicationTable", new int[]{number, limit});
-        int[] result = new int[limit];
-        for (int i = 0; i < limit; i++) {
-            result[i] = number * (i + 1);
-        }
-        return result;
+        return MathFunctions.generateMultiplicationTable(number, limit);
     }
 
     public boolean isPrime(int number) {
         logger.log("isPrime", new int[]{number});
-        if (number <= 1) return false;
-        for (int i = 2; i <= Math.sqrt(number); i++) {
-            if (number % i == 0) return false;
-        }
-        return true;
+        return MathFunctions.isPrime(number);
     }
 
     public double calculateAverage(int[] numbers) {
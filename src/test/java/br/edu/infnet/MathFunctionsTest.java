@@ -4,6 +4,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.stream.IntStream;
 
@@ -112,4 +113,66 @@ class MathFunctionsTest {
                 return false;
             });
     }
-} 
\ No newline at end of file
+
+    @Property
+    void isPrimeLong_MatchesBigInteger(@ForAll @LongRange(min = -10, max = Long.MAX_VALUE) long number) {
+        assertEquals(number > 1 && BigInteger.valueOf(number).isProbablePrime(64), MathFunctions.isPrime(number),
+            "isPrime(" + number + ") should match BigInteger.isProbablePrime");
+    }
+
+    @Test
+    void isPrimeLong_HandlesPseudoprimesAndExtremes() {
+        assertTrue(MathFunctions.isPrime(Integer.MAX_VALUE));
+        assertTrue(MathFunctions.isPrime((long) Integer.MAX_VALUE));
+        assertTrue(MathFunctions.isPrime(4_294_967_291L));
+        assertTrue(MathFunctions.isPrime((1L << 61) - 1));
+        assertTrue(MathFunctions.isPrime(9_223_372_036_854_775_783L));
+        assertFalse(MathFunctions.isPrime(Long.MAX_VALUE));
+        assertFalse(MathFunctions.isPrime(Long.MIN_VALUE));
+        assertFalse(MathFunctions.isPrime(3_215_031_751L));
+        assertFalse(MathFunctions.isPrime(4_759_123_141L));
+        assertFalse(MathFunctions.isPrime(3_825_123_056_546_413_051L));
+        assertFalse(MathFunctions.isPrime(2_147_483_647L * 2_147_483_647L));
+        assertFalse(MathFunctions.isPrime(2_147_483_647L * 2_147_483_629L));
+        assertFalse(MathFunctions.isPrime(25_326_001));
+        assertFalse(MathFunctions.isPrime(46_337 * 46_327));
+    }
+
+    @Property
+    void factorize_ProductOfAscendingPrimePowers(@ForAll @LongRange(min = 1, max = Long.MAX_VALUE) long number) {
+        long[] factors = MathFunctions.factorize(number);
+        assertEquals(0, factors.length % 2);
+        long product = 1;
+        for (int i = 0; i < factors.length; i += 2) {
+            assertTrue(MathFunctions.isPrime(factors[i]), factors[i] + " should be prime");
+            assertTrue(i == 0 || factors[i - 2] < factors[i], "primes should be ascending");
+            assertTrue(factors[i + 1] >= 1, "exponents should be positive");
+            for (long e = 0; e < factors[i + 1]; e++) {
+                product = Math.multiplyExact(product, factors[i]);
+            }
+        }
+        assertEquals(number, product);
+    }
+
+    @Test
+    void factorize_KnownValuesAndBatch() {
+        assertArrayEquals(new long[0], MathFunctions.factorize(1));
+        assertArrayEquals(new long[]{2, 62}, MathFunctions.factorize(1L << 62));
+        assertArrayEquals(new long[]{2, 3, 3, 2, 5, 1}, MathFunctions.factorize(360));
+        assertArrayEquals(new long[]{7, 2, 73, 1, 127, 1, 337, 1, 92_737, 1, 649_657, 1},
+            MathFunctions.factorize(Long.MAX_VALUE));
+        assertArrayEquals(new long[]{2_147_483_629L, 1, 2_147_483_647L, 1},
+            MathFunctions.factorize(2_147_483_647L * 2_147_483_629L));
+        assertArrayEquals(new long[]{1_000_003, 3}, MathFunctions.factorize(1_000_003L * 1_000_003L * 1_000_003L));
+        assertArrayEquals(new long[]{9_223_372_036_854_775_783L, 1},
+            MathFunctions.factorize(9_223_372_036_854_775_783L));
+
+        long[] numbers = {12, 1, 97, 1L << 40, 600_851_475_143L};
+        long[][] batch = MathFunctions.factorize(numbers);
+        for (int i = 0; i < numbers.length; i++) {
+            assertArrayEquals(MathFunctions.factorize(numbers[i]), batch[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> MathFunctions.factorize(0));
+        assertThrows(IllegalArgumentException.class, () -> MathFunctions.factorize(new long[]{5, -5}));
+    }
+}
@@ -0,0 +1,75 @@
+package br.edu.infnet;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+class MultiplicationTableTest {
+
+    @Property
+    void view_MatchesEagerTable(
+            @ForAll int number,
+            @ForAll @IntRange(min = 0, max = 200) int limit) {
+        MultiplicationTable table = MathFunctions.multiplicationTable(number, limit);
+        int[] expected = new int[limit];
+        for (int i = 0; i < limit; i++) {
+            expected[i] = number * (i + 1);
+        }
+        assertEquals(limit, table.size());
+        assertArrayEquals(expected, table.toArray());
+        assertArrayEquals(expected, table.stream().toArray());
+        assertArrayEquals(expected, MathFunctions.generateMultiplicationTable(number, limit));
+        for (int i = 0; i < limit; i++) {
+            assertEquals(expected[i], table.get(i));
+        }
+        List<Integer> visited = new ArrayList<>();
+        table.forEach(visited::add);
+        assertEquals(limit, visited.size());
+    }
+
+    @Property
+    void longView_MatchesExactProducts(
+            @ForAll @LongRange(min = -1_000_000_000_000L, max = 1_000_000_000_000L) long number,
+            @ForAll @IntRange(min = 0, max = 200) int limit) {
+        LongMultiplicationTable table = MathFunctions.multiplicationTable(number, limit);
+        long[] values = MathFunctions.generateMultiplicationTable(number, limit);
+        assertEquals(limit, values.length);
+        for (int i = 0; i < limit; i++) {
+            assertEquals(Math.multiplyExact(number, i + 1L), values[i]);
+            assertEquals(values[i], table.get(i));
+        }
+        assertArrayEquals(values, table.stream().toArray());
+    }
+
+    @Test
+    void into_WritesAtOffsetWithoutAllocating() {
+        int[] buffer = {-1, -1, -1, -1, -1};
+        assertSame(buffer, MathFunctions.multiplicationTable(3, 3).into(buffer, 1));
+        assertArrayEquals(new int[]{-1, 3, 6, 9, -1}, buffer);
+        assertThrows(IndexOutOfBoundsException.class, () -> MathFunctions.multiplicationTable(3, 3).into(buffer, 3));
+
+        long[] longs = new long[2];
+        MathFunctions.multiplicationTable(Long.MAX_VALUE / 2, 2).into(longs, 0);
+        assertEquals(Long.MAX_VALUE - 1, longs[1]);
+    }
+
+    @Test
+    void view_IsLazyAndChecksBounds() {
+        MultiplicationTable table = MathFunctions.multiplicationTable(7, Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, table.size());
+        assertEquals(7 * 1000, table.get(999));
+        assertEquals(70, table.stream().skip(9).findFirst().getAsInt());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> MathFunctions.multiplicationTable(1, -1));
+    }
+
+    @Test
+    void longView_RejectsOverflow() {
+        assertThrows(ArithmeticException.class, () -> MathFunctions.multiplicationTable(Long.MAX_VALUE / 2, 3));
+        assertThrows(ArithmeticException.class, () -> MathFunctions.generateMultiplicationTable(Long.MIN_VALUE, 2));
+        assertEquals(Long.MIN_VALUE, MathFunctions.multiplicationTable(Long.MIN_VALUE, 1).get(0));
+    }
+}
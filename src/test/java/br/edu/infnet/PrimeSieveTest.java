@@ -0,0 +1,169 @@
+package br.edu.infnet;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimeSieveTest {
+
+    @Property
+    void isPrime_MatchesTrialDivision(@ForAll @IntRange(min = -10, max = 3_000_000) int number) {
+        assertEquals(isPrimeByTrialDivision(number), MathFunctions.isPrime(number),
+            "isPrime(" + number + ") should match trial division");
+    }
+
+    @Property
+    void isPrime_AboveSieveLimitMatchesTrialDivision(
+            @ForAll @IntRange(min = PrimeSieve.DEFAULT_LIMIT, max = Integer.MAX_VALUE) int number) {
+        assertEquals(isPrimeByTrialDivision(number), MathFunctions.isPrime(number),
+            "isPrime(" + number + ") should match trial division");
+    }
+
+    @Test
+    void sieve_MatchesTrialDivisionAcrossSegments() {
+        PrimeSieve sieve = new PrimeSieve(1_100_003);
+        for (int number = 0; number <= sieve.limit(); number++) {
+            assertEquals(isPrimeByTrialDivision(number), sieve.isPrime(number), number + " was misclassified");
+        }
+    }
+
+    @Test
+    void sieve_HandlesSmallAndLargeLimits() {
+        assertTrue(new PrimeSieve(2).isPrime(2));
+        assertFalse(new PrimeSieve(9).isPrime(9));
+        assertTrue(new PrimeSieve(Integer.MAX_VALUE >>> 4).isPrime(134_217_689));
+        assertThrows(IllegalArgumentException.class, () -> new PrimeSieve(1));
+        assertThrows(IllegalArgumentException.class, () -> new PrimeSieve(10).isPrime(11));
+    }
+
+    @Test
+    void shared_ReturnsSameInstance() {
+        assertSame(PrimeSieve.shared(), PrimeSieve.shared());
+        assertEquals(Integer.getInteger(PrimeSieve.LIMIT_PROPERTY, PrimeSieve.DEFAULT_LIMIT),
+            PrimeSieve.shared().limit());
+    }
+
+    @Property
+    void bulkIsPrime_MatchesScalar(@ForAll @Size(max = 20_000) int[] numbers) {
+        boolean[] flags = new boolean[numbers.length];
+        BitSet bits = new BitSet();
+        bits.set(numbers.length, numbers.length + 10);
+        MathFunctions.isPrime(numbers, flags);
+        MathFunctions.isPrime(numbers, bits);
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(MathFunctions.isPrime(numbers[i]), flags[i], numbers[i] + " was misclassified");
+            assertEquals(flags[i], bits.get(i), numbers[i] + " was misclassified in the bitmap");
+        }
+        assertTrue(bits.get(numbers.length), "bits after the input should be untouched");
+    }
+
+    @Property(tries = 20)
+    void primesInRange_MatchesScalar(
+            @ForAll @IntRange(min = 0, max = Integer.MAX_VALUE - 600_000) int from,
+            @ForAll @IntRange(min = 0, max = 600_000) int length) {
+        int to = from + length;
+        int[] primes = MathFunctions.primesInRange(from, to);
+        BitSet bitmap = MathFunctions.primesBitmap(from, to);
+        assertEquals(primes.length, MathFunctions.countPrimes(from, to));
+        assertEquals(primes.length, bitmap.cardinality());
+        int next = 0;
+        for (int number = from; number < to; number++) {
+            boolean prime = MathFunctions.isPrime(number);
+            assertEquals(prime, bitmap.get(number - from), number + " was misclassified");
+            if (prime) {
+                assertEquals(number, primes[next++]);
+            }
+        }
+    }
+
+    @Test
+    void countPrimes_KnownValues() {
+        assertEquals(0, MathFunctions.countPrimes(0, 2));
+        assertEquals(25, MathFunctions.countPrimes(0, 100));
+        assertEquals(78_498, MathFunctions.countPrimes(0, 1_000_000));
+        assertEquals(664_579, MathFunctions.countPrimes(0, 10_000_000));
+        assertArrayEquals(new int[]{2, 3, 5, 7}, MathFunctions.primesInRange(0, 10));
+        assertArrayEquals(new int[]{Integer.MAX_VALUE - 18},
+            MathFunctions.primesInRange(Integer.MAX_VALUE - 20, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> MathFunctions.countPrimes(5, 4));
+        assertThrows(IllegalArgumentException.class, () -> MathFunctions.isPrime(new int[2], new boolean[1]));
+    }
+
+    @Test
+    void saveAndLoad_MapsTheSameTable(@TempDir Path directory) throws IOException {
+        PrimeSieve sieve = new PrimeSieve(1_000_003);
+        Path file = directory.resolve("primes.bin");
+        sieve.save(file);
+        assertEquals(PrimeSieve.HEADER_BYTES + ((1_000_003 / 2 + 1 + 63) / 64) * 8L, Files.size(file));
+
+        PrimeSieve loaded = PrimeSieve.load(file);
+        assertEquals(sieve.limit(), loaded.limit());
+        for (int number = 0; number <= sieve.limit(); number++) {
+            assertEquals(sieve.isPrime(number), loaded.isPrime(number), number + " was misclassified");
+        }
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count(), "no temporary file should be left behind");
+        }
+    }
+
+    @Test
+    void load_RejectsCorruptFiles(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("primes.bin");
+        new PrimeSieve(10_000).save(file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> PrimeSieve.load(file));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> PrimeSieve.load(file));
+    }
+
+    @Test
+    void loadOrBuild_RebuildsMissingInvalidOrSmallerTables(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("nested").resolve("primes.bin");
+        assertEquals(5_000, PrimeSieve.loadOrBuild(file, 5_000).limit());
+        assertEquals(5_000, PrimeSieve.load(file).limit());
+        assertEquals(5_000, PrimeSieve.loadOrBuild(file, 100).limit());
+        assertEquals(20_000, PrimeSieve.loadOrBuild(file, 20_000).limit());
+
+        Files.write(file, new byte[64]);
+        PrimeSieve rebuilt = PrimeSieve.loadOrBuild(file, 1_000);
+        assertTrue(rebuilt.isPrime(997));
+        assertEquals(1_000, PrimeSieve.load(file).limit());
+    }
+
+    @Test
+    void loadOrBuild_ReturnsTheBuiltTableWhenItCannotBeSaved(@TempDir Path directory) throws IOException {
+        Path blocker = Files.createFile(directory.resolve("blocker"));
+        Path file = blocker.resolve("primes.bin");
+        PrimeSieve sieve = PrimeSieve.loadOrBuild(file, 1_000);
+        assertEquals(1_000, sieve.limit());
+        assertTrue(sieve.isPrime(997));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void load_RejectsOversizedFilesBeforeMapping(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("primes.bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(3L << 30);
+        }
+        assertThrows(IOException.class, () -> PrimeSieve.load(file));
+    }
+
+    private static boolean isPrimeByTrialDivision(int n) {
+        if (n <= 1) return false;
+        for (long i = 2; i * i <= n; i++) {
+            if (n % i == 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Testes unitários para o AdaptiveMergeSort
+ *
+ * Cobertura das sequências naturais:
+ * 1. Array já ordenado (uma única sequência)
+ * 2. Array em ordem reversa (sequência invertida)
+ * 3. Array quase ordenado com elemento fora do lugar no fim
+ * 4. Entradas aleatórias com muitas sequências curtas (galope e pilha)
+ */
+public class AdaptiveMergeSortTest {
+
+    private final Random random = new Random(11);
+    private final AdaptiveMergeSort adaptiveSort = new AdaptiveMergeSort();
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado que o BubbleSort")
+    public void testSameResultAsBubbleSort() {
+        for (int size = 0; size < 300; size += 13) {
+            Integer[] array = random.ints(size, -20, 20).boxed().toArray(Integer[]::new);
+            Integer[] expected = new BubbleSort().sort(array.clone());
+            assertArrayEquals(expected, adaptiveSort.sort(array));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar array ordenado, reverso e quase ordenado")
+    public void testPresortedInputs() {
+        Integer[] sorted = new Integer[10_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        assertArrayEquals(sorted.clone(), adaptiveSort.sort(sorted.clone()));
+
+        Integer[] reversed = sorted.clone();
+        SortUtils.flip(reversed, 0, reversed.length - 1);
+        assertArrayEquals(sorted, adaptiveSort.sort(reversed));
+
+        Integer[] tail = sorted.clone();
+        tail[tail.length - 1] = -1;
+        Integer[] expected = tail.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, adaptiveSort.sort(tail));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar entradas com muitas sequências naturais")
+    public void testManyRuns() {
+        Integer[] array = new Integer[50_000];
+        for (int i = 0; i < array.length; i++) {
+            int block = i / 700;
+            array[i] = block % 2 == 0 ? i % 700 + random.nextInt(3) : 700 - i % 700;
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, adaptiveSort.sort(array));
+
+        Integer[] randomArray = random.ints(50_000).boxed().toArray(Integer[]::new);
+        Integer[] expectedRandom = randomArray.clone();
+        Arrays.sort(expectedRandom);
+        assertArrayEquals(expectedRandom, adaptiveSort.sort(randomArray));
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem relativa de elementos iguais")
+    public void testStability() {
+        Item[] array = new Item[20_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Item(random.nextInt(50), i);
+        }
+        adaptiveSort.sort(array);
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1].key < array[i].key
+                    || (array[i - 1].key == array[i].key && array[i - 1].position < array[i].position));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar arrays primitivos")
+    public void testPrimitiveArrays() {
+        int[] ints = random.ints(30_000, 0, 1000).toArray();
+        Arrays.sort(ints, 0, 15_000);
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        assertArrayEquals(expectedInts, adaptiveSort.sort(ints));
+
+        long[] longs = random.longs(30_000).toArray();
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        assertArrayEquals(expectedLongs, adaptiveSort.sort(longs));
+
+        double[] doubles = random.doubles(30_000).toArray();
+        doubles[0] = Double.NaN;
+        doubles[1] = -0.0;
+        doubles[2] = 0.0;
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        assertArrayEquals(expectedDoubles, adaptiveSort.sort(doubles));
+    }
+
+    @Test
+    @DisplayName("Deve calcular o tamanho mínimo de sequência")
+    public void testMinRunLength() {
+        assertEquals(31, AdaptiveMergeSort.minRunLength(31));
+        assertEquals(16, AdaptiveMergeSort.minRunLength(64));
+        assertEquals(17, AdaptiveMergeSort.minRunLength(65));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar listas no próprio lugar pela implementação padrão")
+    public void testSortInPlace() {
+        List<Integer> small = new ArrayList<>(Arrays.asList(3, 1, 2));
+        assertSame(small, adaptiveSort.sortInPlace(small));
+        assertEquals(Arrays.asList(1, 2, 3), small);
+
+        List<Integer> large = new LinkedList<>();
+        random.ints(1000).forEach(large::add);
+        List<Integer> expected = new ArrayList<>(large);
+        expected.sort(null);
+        assertSame(large, adaptiveSort.sortInPlace(large));
+        assertEquals(expected, large);
+    }
+
+    private static class Item implements Comparable<Item> {
+        final int key;
+        final int position;
+
+        Item(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
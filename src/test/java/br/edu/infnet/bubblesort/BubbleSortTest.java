@@ -4,7 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Testes unitários para o BubbleSort
@@ -238,6 +243,133 @@ public class BubbleSortTest {
         assertArrayEquals(expected, result);
     }
 
+    // Testes das versões primitivas
+    @Test
+    @DisplayName("Deve ordenar array de int sem boxing")
+    public void testPrimitiveInt() {
+        int[] array = {5, -3, Integer.MAX_VALUE, 0, Integer.MIN_VALUE, 5};
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertSame(array, bubbleSort.sort(array));
+        assertArrayEquals(expected, array);
+        assertTrue(SortUtils.isSorted(array));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar array de long sem boxing")
+    public void testPrimitiveLong() {
+        long[] array = {5L, Long.MIN_VALUE, -3L, Long.MAX_VALUE, 0L};
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, bubbleSort.sort(array));
+        assertTrue(SortUtils.isSorted(array));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar array de double na ordem de Double.compare")
+    public void testPrimitiveDouble() {
+        double[] array = {Double.NaN, 1.5, 0.0, -0.0, Double.NEGATIVE_INFINITY, -2.5};
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, bubbleSort.sort(array));
+        assertTrue(SortUtils.isSorted(array));
+    }
+
+    @Test
+    @DisplayName("Deve inverter intervalos de arrays primitivos")
+    public void testPrimitiveFlip() {
+        int[] array = {1, 2, 3, 4, 5};
+        SortUtils.flip(array, 1, 3);
+        assertArrayEquals(new int[]{1, 4, 3, 2, 5}, array);
+        assertFalse(SortUtils.isSorted(array));
+    }
+
+    // Testes de ordenação de listas no lugar
+    @Test
+    @DisplayName("Deve ordenar ArrayList no próprio lugar")
+    public void testSortInPlaceArrayList() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(5, 3, 1, 4, 2));
+        List<Integer> result = bubbleSort.sortInPlace(list);
+        assertSame(list, result);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar LinkedList no próprio lugar")
+    public void testSortInPlaceLinkedList() {
+        List<String> list = new LinkedList<>(Arrays.asList("c", "a", "b"));
+        assertSame(list, bubbleSort.sortInPlace(list));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    // Testes do modo paralelo (transposição par-ímpar)
+    @Test
+    @DisplayName("Modo paralelo deve produzir o mesmo resultado que o sequencial")
+    public void testParallelSameResult() {
+        BubbleSort parallel = new BubbleSort(4, 2);
+        Random random = new Random(17);
+        for (int size = 0; size < 400; size += 37) {
+            Integer[] array = random.ints(size, -100, 100).boxed().toArray(Integer[]::new);
+            Integer[] expected = bubbleSort.sort(array.clone());
+            assertArrayEquals(expected, parallel.sort(array));
+        }
+        int[] ints = random.ints(2000).toArray();
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        assertArrayEquals(expectedInts, parallel.sort(ints));
+
+        double[] doubles = {Double.NaN, 3.0, -0.0, 0.0, -1.0, Double.NaN, 2.0};
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        assertArrayEquals(expectedDoubles, parallel.sort(doubles));
+    }
+
+    @Test
+    @DisplayName("Modo paralelo deve manter a ordem relativa de elementos iguais")
+    public void testParallelStability() {
+        Person[] array = new Person[300];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Person("P" + i, (i * 7) % 5);
+        }
+        Person[] result = new BubbleSort(3, 2).sort(array);
+        for (int i = 1; i < result.length; i++) {
+            assertTrue(result[i - 1].age <= result[i].age);
+            if (result[i - 1].age == result[i].age) {
+                assertTrue(Integer.parseInt(result[i - 1].name.substring(1)) < Integer.parseInt(result[i].name.substring(1)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Modo paralelo deve lidar com elementos nulos")
+    public void testParallelNullElements() {
+        Integer[] array = new Integer[100];
+        Arrays.fill(array, 1);
+        array[50] = null;
+        assertThrows(NullPointerException.class, () -> new BubbleSort(4, 2).sort(array));
+    }
+
+    @Test
+    @DisplayName("Modo paralelo deve usar o pool informado")
+    public void testParallelCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            long[] longs = new Random(23).longs(1500).toArray();
+            long[] expected = longs.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, new BubbleSort(pool, 2).sort(longs));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar paralelismo inválido")
+    public void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new BubbleSort(0));
+        assertThrows(NullPointerException.class, () -> new BubbleSort(null, 2));
+    }
+
     // Classe auxiliar para testes
     private static class Person implements Comparable<Person> {
         String name;
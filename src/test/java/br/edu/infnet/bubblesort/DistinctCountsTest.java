@@ -0,0 +1,101 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Testes unitários para o DistinctCounts
+ */
+public class DistinctCountsTest {
+
+    private final Random random = new Random(31);
+
+    @Test
+    @DisplayName("Deve retornar valores distintos ordenados com as ocorrências")
+    public void testSmallArrays() {
+        DistinctCounts.IntCounts counts = DistinctCounts.of(new int[]{5, -1, 5, 3, -1, 5});
+        assertArrayEquals(new int[]{-1, 3, 5}, counts.keys());
+        assertArrayEquals(new int[]{2, 1, 3}, counts.counts());
+        assertEquals(3, counts.size());
+        assertEquals(0, DistinctCounts.of(new long[0]).size());
+
+        DistinctCounts.Counts<String> strings = DistinctCounts.of(new String[]{"b", "a", "b"});
+        assertArrayEquals(new String[]{"a", "b"}, strings.keys());
+        assertEquals(2, strings.count(1));
+    }
+
+    @Test
+    @DisplayName("Deve contar por hash e por ordenação com o mesmo resultado")
+    public void testLowAndHighCardinality() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int bound : new int[]{10, 1000, Integer.MAX_VALUE}) {
+            int[] array = random.ints(200_000, 0, bound).toArray();
+            int[] copy = array.clone();
+            TreeMap<Integer, Integer> expected = new TreeMap<>();
+            for (int value : array) {
+                expected.merge(value, 1, Integer::sum);
+            }
+            for (DistinctCounts.IntCounts counts : new DistinctCounts.IntCounts[]{
+                    DistinctCounts.of(array, pool, Integer.MAX_VALUE), DistinctCounts.of(array, pool, 1)}) {
+                assertEquals(expected.size(), counts.size());
+                int i = 0;
+                for (var entry : expected.entrySet()) {
+                    assertEquals(entry.getKey(), counts.key(i));
+                    assertEquals(entry.getValue(), counts.count(i++));
+                }
+            }
+            assertArrayEquals(copy, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve contar longs em paralelo")
+    public void testLongs() {
+        long[] array = new long[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (i % 7) * (Long.MIN_VALUE / 7);
+        }
+        DistinctCounts.LongCounts counts = DistinctCounts.of(array, ForkJoinPool.commonPool(), 1);
+        assertEquals(7, counts.size());
+        assertEquals(6 * (Long.MIN_VALUE / 7), counts.key(0));
+        assertEquals(0L, counts.key(6));
+        assertEquals(100_000 / 7 + 1, counts.count(6));
+    }
+
+    @Test
+    @DisplayName("Deve seguir a ordem e a igualdade de Double.compare")
+    public void testDoubles() {
+        double[] array = {Double.NaN, 0.0, -0.0, 1.5, Double.NaN, -0.0, Double.longBitsToDouble(0x7ff8000000000001L)};
+        DistinctCounts.DoubleCounts counts = DistinctCounts.of(array);
+        assertArrayEquals(new double[]{-0.0, 0.0, 1.5, Double.NaN}, counts.keys());
+        assertArrayEquals(new int[]{2, 1, 1, 3}, counts.counts());
+    }
+
+    @Test
+    @DisplayName("Deve estimar o número de valores distintos por amostragem")
+    public void testEstimatedDistinct() {
+        int[] fewUnique = random.ints(1_000_000, 0, 1000).toArray();
+        assertEquals(1000, DistinctCounts.estimatedDistinct(fewUnique), 200);
+
+        int[] sortedFew = new int[1_000_000];
+        for (int i = 0; i < sortedFew.length; i++) {
+            sortedFew[i] = i / 100;
+        }
+        assertEquals(10_000, DistinctCounts.estimatedDistinct(sortedFew), 3000);
+
+        long[] allDistinct = random.longs(1_000_000).toArray();
+        assertTrue(DistinctCounts.estimatedDistinct(allDistinct) > DistinctCounts.MAX_HASHED);
+        assertEquals(0, DistinctCounts.estimatedDistinct(new long[0]));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar argumentos inválidos")
+    public void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> DistinctCounts.of(new int[0], null, 1));
+        assertThrows(IllegalArgumentException.class, () -> DistinctCounts.of(new int[0], ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,93 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Testes unitários para o DualPivotQuickSort
+ *
+ * Distribuições testadas:
+ * 1. Aleatória
+ * 2. Ordenada e reversa
+ * 3. "Organ pipe" (crescente e depois decrescente)
+ * 4. Poucos valores distintos e todos iguais (partição em três vias)
+ */
+public class DualPivotQuickSortTest {
+
+    private final Random random = new Random(13);
+    private final DualPivotQuickSort quickSort = new DualPivotQuickSort();
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado que o BubbleSort")
+    public void testSameResultAsBubbleSort() {
+        for (int size = 0; size < 300; size += 11) {
+            Integer[] array = random.ints(size, -30, 30).boxed().toArray(Integer[]::new);
+            Integer[] expected = new BubbleSort().sort(array.clone());
+            assertArrayEquals(expected, quickSort.sort(array));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar distribuições adversárias")
+    public void testDistributions() {
+        int size = 100_000;
+        int[][] inputs = new int[5][size];
+        for (int i = 0; i < size; i++) {
+            inputs[0][i] = random.nextInt();
+            inputs[1][i] = i;
+            inputs[2][i] = size - i;
+            inputs[3][i] = Math.min(i, size - i);
+            inputs[4][i] = random.nextInt(4);
+        }
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, quickSort.sort(input));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar strings e long")
+    public void testStringsAndLongs() {
+        String[] strings = random.ints(5000, 0, 1000).mapToObj(Integer::toString).toArray(String[]::new);
+        String[] expectedStrings = strings.clone();
+        Arrays.sort(expectedStrings);
+        assertArrayEquals(expectedStrings, quickSort.sort(strings));
+
+        long[] longs = random.longs(5000).toArray();
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        assertArrayEquals(expectedLongs, quickSort.sort(longs));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar double com NaN e zeros com sinal")
+    public void testDoubles() {
+        double[] array = random.doubles(10_000, -1, 1).toArray();
+        for (int i = 0; i < 100; i++) {
+            array[random.nextInt(array.length)] = Double.NaN;
+            array[random.nextInt(array.length)] = -0.0;
+            array[random.nextInt(array.length)] = 0.0;
+        }
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, quickSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a profundidade a 2 log n")
+    public void testDepthLimit() {
+        assertEquals(2, DualPivotQuickSort.depthLimit(1));
+        assertEquals(22, DualPivotQuickSort.depthLimit(1024));
+    }
+
+    @Test
+    @DisplayName("Deve lidar com elementos nulos")
+    public void testNullElements() {
+        Integer[] array = {1, null, 3};
+        assertThrows(NullPointerException.class, () -> quickSort.sort(array));
+    }
+}
@@ -0,0 +1,136 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Testes unitários para o ExternalMergeSort
+ */
+public class ExternalMergeSortTest {
+
+    private static final RecordCodec<Integer> INT_CODEC = new RecordCodec<>() {
+        @Override
+        public void write(DataOutput out, Integer record) throws IOException {
+            out.writeInt(record);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+
+        @Override
+        public long estimatedSize(Integer record) {
+            return 16;
+        }
+    };
+
+    @TempDir
+    Path tempDirectory;
+
+    private final Random random = new Random(3);
+
+    @Test
+    @DisplayName("Deve ordenar em memória quando a entrada cabe no orçamento")
+    public void testInMemory() throws IOException {
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(new AdaptiveMergeSort(), INT_CODEC, 1 << 20, tempDirectory);
+        List<Integer> output = new ArrayList<>();
+        assertEquals(5, sorter.sort(Arrays.asList(5, 3, 1, 4, 2).iterator(), output::add));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), output);
+        assertEmpty(tempDirectory);
+    }
+
+    @Test
+    @DisplayName("Deve gravar sequências em disco e intercalá-las em várias passagens")
+    public void testSpillAndMerge() throws IOException {
+        Set<ExternalMergeSort.Phase> phases = EnumSet.noneOf(ExternalMergeSort.Phase.class);
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(new ParallelMergeSort(), INT_CODEC, 16 * 1000,
+                tempDirectory, (phase, records, runs) -> phases.add(phase), 4);
+        List<Integer> input = new ArrayList<>();
+        random.ints(25_500, -1000, 1000).forEach(input::add);
+        List<Integer> output = new ArrayList<>();
+
+        assertEquals(input.size(), sorter.sort(input.iterator(), output::add));
+
+        List<Integer> expected = new ArrayList<>(input);
+        expected.sort(null);
+        assertEquals(expected, output);
+        assertEquals(EnumSet.allOf(ExternalMergeSort.Phase.class), phases);
+        assertEmpty(tempDirectory);
+    }
+
+    @Test
+    @DisplayName("Deve intercalar muitas sequências pequenas com chaves repetidas")
+    public void testManySmallRunsWithDuplicates() throws IOException {
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(new AdaptiveMergeSort(), INT_CODEC, 16 * 10, tempDirectory);
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add(1000 + i % 3);
+        }
+        List<Integer> output = new ArrayList<>();
+        sorter.sort(input.iterator(), output::add);
+        for (int i = 1; i < output.size(); i++) {
+            assertTrue(output.get(i - 1) <= output.get(i));
+        }
+        assertEquals(100, output.size());
+    }
+
+    @Test
+    @DisplayName("Deve remover a sequência parcial quando a gravação falha")
+    public void testSpillFailureRemovesRun() throws IOException {
+        RecordCodec<Integer> failing = new RecordCodec<>() {
+            private int written;
+
+            @Override
+            public void write(DataOutput out, Integer record) throws IOException {
+                if (++written == 15) {
+                    throw new IOException("disco cheio");
+                }
+                out.writeInt(record);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+
+            @Override
+            public long estimatedSize(Integer record) {
+                return 16;
+            }
+        };
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(new AdaptiveMergeSort(), failing, 16 * 10, tempDirectory);
+        List<Integer> input = new ArrayList<>();
+        random.ints(100, 0, 50).forEach(input::add);
+
+        assertThrows(IOException.class, () -> sorter.sort(input.iterator(), record -> { }));
+        assertEmpty(tempDirectory);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar orçamento de memória inválido")
+    public void testInvalidBudget() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalMergeSort<>(new BubbleSort(), INT_CODEC, 0, tempDirectory));
+    }
+
+    private static void assertEmpty(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count(), "Arquivos temporários devem ser removidos");
+        }
+    }
+}
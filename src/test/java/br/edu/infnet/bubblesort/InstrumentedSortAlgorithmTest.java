@@ -0,0 +1,89 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Testes unitários para o InstrumentedSortAlgorithm
+ */
+public class InstrumentedSortAlgorithmTest {
+
+    @Test
+    @DisplayName("Deve contar comparações e trocas do BubbleSort")
+    public void testCountsOperations() {
+        InstrumentedSortAlgorithm instrumented = new InstrumentedSortAlgorithm(new BubbleSort(), true, true);
+        Integer[] array = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, instrumented.sort(array));
+
+        InstrumentedSortAlgorithm.Snapshot snapshot = instrumented.snapshot();
+        assertEquals(1, snapshot.calls());
+        assertEquals(45, snapshot.total(InstrumentedSortAlgorithm.Metric.SWAPS));
+        assertTrue(snapshot.total(InstrumentedSortAlgorithm.Metric.COMPARISONS) >= 45);
+        assertEquals(10, snapshot.total(InstrumentedSortAlgorithm.Metric.RUNS));
+        assertEquals(10, snapshot.total(InstrumentedSortAlgorithm.Metric.SIZE));
+        assertEquals(1, snapshot.histogram(InstrumentedSortAlgorithm.Metric.SIZE)[4]);
+    }
+
+    @Test
+    @DisplayName("Deve registrar tamanho e sequências sem contar operações quando desligado")
+    public void testWithoutCounting() {
+        InstrumentedSortAlgorithm instrumented = new InstrumentedSortAlgorithm(new AdaptiveMergeSort(), false, true);
+        instrumented.sort(new int[]{1, 2, 3, 0});
+        instrumented.sort(new double[0]);
+
+        InstrumentedSortAlgorithm.Snapshot snapshot = instrumented.snapshot();
+        assertEquals(2, snapshot.calls());
+        assertEquals(3, snapshot.total(InstrumentedSortAlgorithm.Metric.RUNS));
+        assertEquals(2.0, snapshot.mean(InstrumentedSortAlgorithm.Metric.SIZE));
+        assertEquals(0, Arrays.stream(snapshot.histogram(InstrumentedSortAlgorithm.Metric.COMPARISONS)).sum());
+        assertEquals(0.0, snapshot.mean(InstrumentedSortAlgorithm.Metric.COMPARISONS));
+    }
+
+    @Test
+    @DisplayName("Deve medir ordenações de listas no próprio lugar")
+    public void testSortInPlace() {
+        InstrumentedSortAlgorithm instrumented = new InstrumentedSortAlgorithm(new BubbleSort(), true, true);
+        List<Integer> list = new ArrayList<>(Arrays.asList(3, 1, 2));
+        assertSame(list, instrumented.sortInPlace(list));
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertEquals(2, instrumented.snapshot().total(InstrumentedSortAlgorithm.Metric.RUNS));
+        assertTrue(instrumented.snapshot().total(InstrumentedSortAlgorithm.Metric.COMPARISONS) >= 2);
+    }
+
+    @Test
+    @DisplayName("Deve contar só as operações da própria chamada e não contar sequências por padrão")
+    public void testCountsOnlyOwnCall() throws InterruptedException {
+        InstrumentedSortAlgorithm instrumented = new InstrumentedSortAlgorithm(new BubbleSort());
+        Thread other = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                new BubbleSort().sort(new Integer[]{5, 4, 3, 2, 1, 0});
+            }
+        });
+        other.start();
+        for (int i = 0; i < 20; i++) {
+            instrumented.sort(new Integer[]{9, 8, 7, 6, 5, 4, 3, 2, 1, 0});
+            new BubbleSort().sort(new Integer[]{3, 2, 1});
+        }
+        other.join();
+
+        InstrumentedSortAlgorithm.Snapshot snapshot = instrumented.snapshot();
+        assertEquals(20, snapshot.calls());
+        assertEquals(20 * 45, snapshot.total(InstrumentedSortAlgorithm.Metric.COMPARISONS));
+        assertEquals(20 * 45, snapshot.total(InstrumentedSortAlgorithm.Metric.SWAPS));
+        assertEquals(0, Arrays.stream(snapshot.histogram(InstrumentedSortAlgorithm.Metric.RUNS)).sum());
+    }
+
+    @Test
+    @DisplayName("Deve distribuir os valores em baldes de potências de dois")
+    public void testBucketOf() {
+        assertEquals(0, InstrumentedSortAlgorithm.bucketOf(0));
+        assertEquals(1, InstrumentedSortAlgorithm.bucketOf(1));
+        assertEquals(2, InstrumentedSortAlgorithm.bucketOf(3));
+        assertEquals(11, InstrumentedSortAlgorithm.bucketOf(1024));
+        assertEquals(63, InstrumentedSortAlgorithm.bucketOf(Long.MAX_VALUE));
+    }
+}
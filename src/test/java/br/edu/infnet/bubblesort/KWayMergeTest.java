@@ -0,0 +1,131 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Testes unitários para o KWayMerge
+ */
+public class KWayMergeTest {
+
+    private final Random random = new Random(29);
+
+    @Test
+    @DisplayName("Deve intercalar qualquer número de iteradores ordenados")
+    public void testMergeIterators() {
+        for (int k = 1; k <= 20; k++) {
+            List<Iterator<Integer>> sources = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < k; i++) {
+                List<Integer> source = new ArrayList<>();
+                random.ints(random.nextInt(50), -30, 30).sorted().forEach(source::add);
+                expected.addAll(source);
+                sources.add(source.iterator());
+            }
+            Collections.sort(expected);
+            List<Integer> merged = new ArrayList<>();
+            KWayMerge.merge(sources).forEachRemaining(merged::add);
+            assertEquals(expected, merged);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar primeiro os elementos iguais das fontes anteriores")
+    public void testStability() {
+        Item[] first = {new Item(1, 0), new Item(2, 0), new Item(2, 0)};
+        Item[] second = {new Item(1, 1), new Item(2, 1)};
+        Item[] third = {new Item(0, 2), new Item(2, 2)};
+        Iterator<Item> merged = KWayMerge.merge(false, first, second, third);
+        int[][] expected = {{0, 2}, {1, 0}, {1, 1}, {2, 0}, {2, 0}, {2, 1}, {2, 2}};
+        for (int[] item : expected) {
+            Item next = merged.next();
+            assertEquals(item[0], next.key);
+            assertEquals(item[1], next.source);
+        }
+        assertFalse(merged.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve descartar repetições no modo distinto")
+    public void testDistinct() {
+        List<String> merged = new ArrayList<>();
+        KWayMerge.merge(true, new String[]{"a", "a", "c"}, new String[]{"a", "b", "c", "d"}, new String[0])
+                .forEachRemaining(merged::add);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), merged);
+
+        PrimitiveIterator.OfInt ints = KWayMerge.merge(true, new int[]{1, 1, 3}, new int[]{1, 2, 3, 3});
+        assertArrayEquals(new int[]{1, 2, 3}, IntStream.generate(ints::nextInt).limit(3).toArray());
+        assertFalse(ints.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve intercalar arrays primitivos sem perder valores")
+    public void testPrimitiveArrays() {
+        int[][] intArrays = new int[7][];
+        long[][] longArrays = new long[7][];
+        double[][] doubleArrays = new double[7][];
+        for (int i = 0; i < 7; i++) {
+            intArrays[i] = random.ints(random.nextInt(1000)).sorted().toArray();
+            longArrays[i] = random.longs(random.nextInt(1000)).sorted().toArray();
+            doubleArrays[i] = random.doubles(random.nextInt(1000)).sorted().toArray();
+        }
+        doubleArrays[0] = new double[]{-0.0, 0.0, Double.NaN};
+
+        int[] expectedInts = Arrays.stream(intArrays).flatMapToInt(Arrays::stream).sorted().toArray();
+        PrimitiveIterator.OfInt ints = KWayMerge.merge(false, intArrays);
+        assertArrayEquals(expectedInts, IntStream.range(0, expectedInts.length).map(i -> ints.nextInt()).toArray());
+        assertFalse(ints.hasNext());
+
+        long[] expectedLongs = Arrays.stream(longArrays).flatMapToLong(Arrays::stream).sorted().toArray();
+        PrimitiveIterator.OfLong longs = KWayMerge.merge(false, longArrays);
+        for (long expected : expectedLongs) {
+            assertEquals(expected, longs.nextLong());
+        }
+        assertFalse(longs.hasNext());
+
+        double[] expectedDoubles = Arrays.stream(doubleArrays).flatMapToDouble(Arrays::stream).toArray();
+        Arrays.sort(expectedDoubles);
+        PrimitiveIterator.OfDouble doubles = KWayMerge.merge(false, doubleArrays);
+        for (double expected : expectedDoubles) {
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(doubles.nextDouble()));
+        }
+        assertFalse(doubles.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve lidar com nenhuma fonte ou fontes vazias")
+    public void testEmptySources() {
+        Iterator<Integer> none = KWayMerge.merge(Collections.<Iterator<Integer>>emptyList());
+        assertFalse(none.hasNext());
+        assertThrows(NoSuchElementException.class, none::next);
+
+        PrimitiveIterator.OfLong empty = KWayMerge.merge(false, new long[0], new long[0]);
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextLong);
+    }
+
+    private static class Item implements Comparable<Item> {
+        final int key;
+        final int source;
+
+        Item(int key, int source) {
+            this.key = key;
+            this.source = source;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
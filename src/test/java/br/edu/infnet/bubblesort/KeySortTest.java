@@ -0,0 +1,79 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Testes unitários para o KeySort
+ */
+public class KeySortTest {
+
+    private final Random random = new Random(37);
+
+    @Test
+    @DisplayName("Deve ordenar por chave int de forma estável extraindo cada chave uma vez")
+    public void testIntKeys() {
+        String[] array = {"ccc", "a", "bb", "b", "dddd", "", "c"};
+        AtomicInteger calls = new AtomicInteger();
+        KeySort.sortByInt(array, s -> {
+            calls.incrementAndGet();
+            return s.length();
+        });
+        assertArrayEquals(new String[]{"", "a", "b", "c", "bb", "ccc", "dddd"}, array);
+        assertEquals(7, calls.get());
+
+        Integer[] negatives = {3, -5, Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        KeySort.sortByInt(negatives, Integer::intValue, true);
+        assertArrayEquals(new Integer[]{Integer.MIN_VALUE, -5, 0, 3, Integer.MAX_VALUE}, negatives);
+    }
+
+    @Test
+    @DisplayName("Deve produzir a mesma ordem que um sort estável por comparador")
+    public void testMatchesStableSort() {
+        for (boolean parallel : new boolean[]{false, true}) {
+            long[][] array = new long[50_000][];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = new long[]{random.nextInt(1000) - 500L, i};
+            }
+            long[][] expected = array.clone();
+            Arrays.sort(expected, Comparator.comparingLong(pair -> pair[0]));
+
+            long[][] byLong = array.clone();
+            KeySort.sortByLong(byLong, pair -> pair[0], parallel);
+            assertArrayEquals(expected, byLong);
+
+            long[][] byDouble = array.clone();
+            KeySort.sortByDouble(byDouble, pair -> pair[0] / 3.0, parallel);
+            assertArrayEquals(expected, byDouble);
+
+            long[][] byKey = array.clone();
+            KeySort.sortBy(byKey, pair -> String.format("%05d", pair[0] + 1000), parallel);
+            assertArrayEquals(expected, byKey);
+
+            long[][] byInt = array.clone();
+            KeySort.sortByInt(byInt, pair -> (int) pair[0], parallel);
+            assertArrayEquals(expected, byInt);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve seguir a ordem de Double.compare")
+    public void testDoubleKeys() {
+        Double[] array = {Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, 1.0};
+        KeySort.sortByDouble(array, Double::doubleValue);
+        assertArrayEquals(new Double[]{Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, Double.NaN}, array);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar extratores e chaves nulos")
+    public void testNulls() {
+        assertThrows(NullPointerException.class, () -> KeySort.sortByInt(new String[0], null));
+        assertThrows(NullPointerException.class, () -> KeySort.sortBy(new String[]{"a"}, s -> (String) null));
+        assertEquals(0, KeySort.sortBy(new String[0], s -> s).length);
+    }
+}
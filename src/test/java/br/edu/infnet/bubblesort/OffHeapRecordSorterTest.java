@@ -0,0 +1,129 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Testes unitários para o OffHeapRecordSorter
+ *
+ * Registros de 16 bytes: 4 bytes de cabeçalho, chave int big-endian (com o bit de sinal invertido)
+ * e a posição original como carga.
+ */
+public class OffHeapRecordSorterTest {
+
+    private static final int RECORD_SIZE = 16;
+
+    private final Random random = new Random(23);
+    private final OffHeapRecordSorter sorter = new OffHeapRecordSorter(RECORD_SIZE, 4, 4);
+
+    @Test
+    @DisplayName("Deve ordenar registros trocando-os no próprio buffer")
+    public void testSortInPlace() {
+        int[] keys = random.ints(5000, -100, 100).toArray();
+        ByteBuffer buffer = records(keys);
+        sorter.sortInPlace(buffer);
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, keys(buffer));
+        assertEquals(0, buffer.position());
+        assertEquals(keys.length * RECORD_SIZE, buffer.limit());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por índice de forma estável, levando a carga junto")
+    public void testSortByIndexIsStable() {
+        int[] keys = random.ints(5000, 0, 50).toArray();
+        ByteBuffer buffer = records(keys);
+        sorter.sortByIndex(buffer);
+        for (int i = 1; i < keys.length; i++) {
+            int previous = RECORD_SIZE * (i - 1);
+            int current = RECORD_SIZE * i;
+            assertTrue(key(buffer, previous) < key(buffer, current)
+                    || (key(buffer, previous) == key(buffer, current)
+                    && buffer.getInt(previous + 8) < buffer.getInt(current + 8)));
+            assertEquals(keys[buffer.getInt(current + 8)], key(buffer, current));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve desempatar prefixos iguais pelo restante de chaves longas")
+    public void testLongKeys() {
+        OffHeapRecordSorter longKeys = new OffHeapRecordSorter(24, 0, 12);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(24 * 1000);
+        for (int i = 0; i < 1000; i++) {
+            buffer.putLong(24 * i, 7L);
+            buffer.putInt(24 * i + 8, random.nextInt() & Integer.MAX_VALUE);
+        }
+        ByteBuffer copy = ByteBuffer.allocateDirect(buffer.capacity());
+        copy.put(0, buffer, 0, buffer.capacity());
+        longKeys.sortByIndex(buffer);
+        longKeys.sortInPlace(copy);
+        for (int i = 1; i < 1000; i++) {
+            assertTrue(buffer.getInt(24 * (i - 1) + 8) <= buffer.getInt(24 * i + 8));
+            assertEquals(buffer.getInt(24 * i + 8), copy.getInt(24 * i + 8));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar apenas entre a posição e o limite")
+    public void testRange() {
+        ByteBuffer buffer = records(new int[]{9, 3, 2, 1, 0});
+        buffer.position(RECORD_SIZE).limit(4 * RECORD_SIZE);
+        sorter.sort(buffer);
+        buffer.clear();
+        assertArrayEquals(new int[]{9, 1, 2, 3, 0}, keys(buffer));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar um arquivo mapeado em memória")
+    public void testMappedFile(@TempDir Path directory) throws IOException {
+        int[] keys = random.ints(2000).toArray();
+        ByteBuffer buffer = records(keys);
+        byte[] bytes = new byte[buffer.capacity()];
+        buffer.get(0, bytes);
+        Path file = Files.write(directory.resolve("records.bin"), bytes);
+
+        sorter.sort(file);
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, keys(ByteBuffer.wrap(Files.readAllBytes(file))));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar descritores e buffers inválidos")
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordSorter(8, 4, 8));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordSorter(0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(ByteBuffer.allocate(RECORD_SIZE + 1)));
+    }
+
+    private static ByteBuffer records(int[] keys) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(keys.length * RECORD_SIZE);
+        for (int i = 0; i < keys.length; i++) {
+            buffer.putInt(i * RECORD_SIZE, -1);
+            buffer.putInt(i * RECORD_SIZE + 4, keys[i] ^ Integer.MIN_VALUE);
+            buffer.putInt(i * RECORD_SIZE + 8, i);
+        }
+        return buffer;
+    }
+
+    private static int key(ByteBuffer buffer, int record) {
+        return buffer.getInt(record + 4) ^ Integer.MIN_VALUE;
+    }
+
+    private static int[] keys(ByteBuffer buffer) {
+        int[] keys = new int[buffer.capacity() / RECORD_SIZE];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key(buffer, i * RECORD_SIZE);
+        }
+        return keys;
+    }
+}
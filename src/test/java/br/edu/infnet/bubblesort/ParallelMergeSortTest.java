@@ -0,0 +1,112 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Testes unitários para o ParallelMergeSort
+ *
+ * Os cortes pequenos forçam a divisão em tarefas e a intercalação paralela
+ * mesmo em arrays de teste de tamanho moderado.
+ */
+public class ParallelMergeSortTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado que o BubbleSort")
+    public void testSameResultAsBubbleSort() {
+        ParallelMergeSort mergeSort = new ParallelMergeSort(4);
+        for (int size = 0; size < 200; size += 7) {
+            Integer[] array = random.ints(size, -50, 50).boxed().toArray(Integer[]::new);
+            Integer[] expected = new BubbleSort().sort(array.clone());
+            assertArrayEquals(expected, mergeSort.sort(array));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar array grande com pool próprio")
+    public void testLargeArrayWithCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelMergeSort mergeSort = new ParallelMergeSort(pool, 1000);
+            Integer[] array = random.ints(200_000).boxed().toArray(Integer[]::new);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+            assertSame(array, mergeSort.sort(array));
+            assertArrayEquals(expected, array);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem relativa de elementos iguais")
+    public void testStability() {
+        Item[] array = new Item[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Item(random.nextInt(10), i);
+        }
+        new ParallelMergeSort(16).sort(array);
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1].key < array[i].key
+                    || (array[i - 1].key == array[i].key && array[i - 1].position < array[i].position));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar arrays primitivos")
+    public void testPrimitiveArrays() {
+        ParallelMergeSort mergeSort = new ParallelMergeSort(64);
+
+        int[] ints = random.ints(10_000).toArray();
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        assertArrayEquals(expectedInts, mergeSort.sort(ints));
+
+        long[] longs = random.longs(10_000).toArray();
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        assertArrayEquals(expectedLongs, mergeSort.sort(longs));
+
+        double[] doubles = random.doubles(10_000, -1, 1).toArray();
+        doubles[10] = Double.NaN;
+        doubles[20] = -0.0;
+        doubles[30] = 0.0;
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        assertArrayEquals(expectedDoubles, mergeSort.sort(doubles));
+    }
+
+    @Test
+    @DisplayName("Deve lidar com elementos nulos")
+    public void testNullElements() {
+        Integer[] array = {1, null, 3};
+        assertThrows(NullPointerException.class, () -> new ParallelMergeSort().sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar corte inválido")
+    public void testInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort(1));
+    }
+
+    private static class Item implements Comparable<Item> {
+        final int key;
+        final int position;
+
+        Item(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Testes unitários para o Presortedness
+ */
+public class PresortednessTest {
+
+    private final Random random = new Random(29);
+
+    @Test
+    @DisplayName("Deve contar sequências e a maior sequência")
+    public void testRuns() {
+        Presortedness presortedness = Presortedness.of(new int[]{1, 2, 3, 2, 5, 6, 7, 8, 0});
+        assertEquals(9, presortedness.length());
+        assertEquals(3, presortedness.runs());
+        assertEquals(5, presortedness.longestRun());
+        assertFalse(presortedness.isSorted());
+
+        assertEquals(0, Presortedness.of(new long[0]).runs());
+        assertTrue(Presortedness.of(new double[]{1.0, 1.0, Double.NaN}).isSorted());
+        assertEquals(2, Presortedness.of(new double[]{Double.NaN, 1.0}).runs());
+        assertEquals(4, Presortedness.of(new Integer[]{4, 3, 2, 1}).runs());
+    }
+
+    @Test
+    @DisplayName("Deve obter o mesmo resultado em paralelo e sequencialmente")
+    public void testParallelMatchesSequential() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int size : new int[]{1, 2, 16_383, 16_384, 16_385, 100_000}) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(8) == 0 ? random.nextInt(100) : i;
+            }
+            Presortedness sequential = Presortedness.of(array, pool, Integer.MAX_VALUE);
+            Presortedness parallel = Presortedness.of(array, pool, 2);
+            assertEquals(sequential.runs(), parallel.runs());
+            assertEquals(sequential.longestRun(), parallel.longestRun());
+            assertEquals(runs(array), parallel.runs());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve unir sequências que atravessam os blocos paralelos")
+    public void testRunsAcrossChunks() {
+        int[] array = new int[200_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        array[150_000] = -1;
+        Presortedness presortedness = Presortedness.of(array, ForkJoinPool.commonPool(), 2);
+        assertEquals(2, presortedness.runs());
+        assertEquals(150_000, presortedness.longestRun());
+    }
+
+    @Test
+    @DisplayName("Deve verificar a ordenação em paralelo")
+    public void testIsSorted() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        String[] strings = new String[50_000];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = String.format("%06d", i);
+        }
+        assertTrue(Presortedness.isSorted(strings, pool, 2));
+        strings[strings.length - 1] = "0";
+        assertFalse(Presortedness.isSorted(strings, pool, 2));
+        assertFalse(Presortedness.isSorted(new int[]{2, 1}));
+        assertTrue(Presortedness.isSorted(new long[0]));
+        assertThrows(NullPointerException.class, () -> Presortedness.isSorted(new int[0], null, 2));
+    }
+
+    @Test
+    @DisplayName("Deve estimar inversões e repetições")
+    public void testSampledRatios() {
+        int[] reversed = new int[10_000];
+        for (int i = 0; i < reversed.length; i++) {
+            reversed[i] = reversed.length - i;
+        }
+        Presortedness presortedness = Presortedness.of(reversed);
+        assertEquals(1.0, presortedness.inversionRatio(), 0.05);
+        assertEquals(0.0, presortedness.duplicateRatio());
+
+        Presortedness fewUnique = Presortedness.of(random.ints(10_000, 0, 3).toArray());
+        assertTrue(fewUnique.duplicateRatio() > 0.9);
+        assertEquals(0.5, Presortedness.of(random.ints(10_000).toArray()).inversionRatio(), 0.1);
+    }
+
+    private static int runs(long[] array) {
+        int runs = array.length == 0 ? 0 : 1;
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                runs++;
+            }
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,103 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Testes unitários para o RadixSort
+ */
+public class RadixSortTest {
+
+    private final Random random = new Random(7);
+    private final RadixSort radixSort = new RadixSort();
+
+    @Test
+    @DisplayName("Deve ordenar int com negativos e valores extremos")
+    public void testIntWithNegatives() {
+        int[] array = {3, -1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -256, 256, -1};
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, radixSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar int aleatórios calculando o histograma em paralelo")
+    public void testParallelHistogram() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            RadixSort parallel = new RadixSort(pool, 1000);
+            int[] array = random.ints(100_000).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, parallel.sort(array));
+
+            long[] longs = random.longs(100_000).toArray();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            assertArrayEquals(expectedLongs, parallel.sort(longs));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ignorar passagens em que todas as chaves têm o mesmo dígito")
+    public void testSkippedPasses() {
+        int[] array = random.ints(1000, 0, 200).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, radixSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar long e double na ordem natural")
+    public void testLongAndDouble() {
+        long[] longs = {Long.MAX_VALUE, -5L, Long.MIN_VALUE, 1L << 40, 0L};
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        assertArrayEquals(expectedLongs, radixSort.sort(longs));
+
+        double[] doubles = {Double.NaN, 2.5, -0.0, 0.0, Double.NEGATIVE_INFINITY, -1e300, Double.MIN_VALUE,
+                Double.POSITIVE_INFINITY, -2.5};
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        assertArrayEquals(expectedDoubles, radixSort.sort(doubles));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar Integer e Long de forma estável")
+    public void testBoxedStability() {
+        Integer[] array = new Integer[2000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Integer.valueOf(1000 + random.nextInt(20) - 10);
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        Integer[] result = radixSort.sort(array);
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], result[i]);
+        }
+
+        Long[] longs = {3L, -7L, Long.MIN_VALUE, 3L, 0L};
+        assertArrayEquals(new Long[]{Long.MIN_VALUE, -7L, 0L, 3L, 3L}, radixSort.sort(longs));
+    }
+
+    @Test
+    @DisplayName("Deve delegar outros tipos para uma ordenação estável")
+    public void testFallback() {
+        String[] array = {"pera", "uva", "abacate", "maçã"};
+        String[] expected = new BubbleSort().sort(array.clone());
+        assertArrayEquals(expected, radixSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve lidar com elementos nulos")
+    public void testNullElements() {
+        Integer[] array = {1, null, 3};
+        assertThrows(NullPointerException.class, () -> radixSort.sort(array));
+    }
+}
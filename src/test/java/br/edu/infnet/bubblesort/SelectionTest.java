@@ -0,0 +1,89 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Testes unitários para Selection (topK, nthElement e partialSort)
+ */
+public class SelectionTest {
+
+    private final Random random = new Random(5);
+
+    @Test
+    @DisplayName("Deve retornar os k menores sem modificar a entrada")
+    public void testTopK() {
+        Integer[] array = random.ints(1000, -500, 500).boxed().toArray(Integer[]::new);
+        Integer[] original = array.clone();
+        Integer[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        assertArrayEquals(Arrays.copyOf(sorted, 100), Selection.topK(array, 100));
+        assertArrayEquals(original, array);
+        assertEquals(0, Selection.topK(array, 0).length);
+        assertArrayEquals(sorted, Selection.topK(array, array.length));
+    }
+
+    @Test
+    @DisplayName("Deve posicionar o n-ésimo elemento com partição correta")
+    public void testNthElement() {
+        for (int n : new int[]{0, 1, 499, 500, 998, 999}) {
+            int[] array = random.ints(1000, 0, 50).toArray();
+            int[] sorted = array.clone();
+            Arrays.sort(sorted);
+
+            assertEquals(sorted[n], Selection.nthElement(array, n));
+            for (int i = 0; i < n; i++) {
+                assertTrue(array[i] <= array[n]);
+            }
+            for (int i = n + 1; i < array.length; i++) {
+                assertTrue(array[i] >= array[n]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a mediana mesmo em entradas ordenadas e repetidas")
+    public void testMedianOnAdversarialInputs() {
+        long[] ascending = new long[100_001];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = i;
+        }
+        assertEquals(50_000L, Selection.nthElement(ascending, 50_000));
+
+        double[] equal = new double[10_000];
+        Arrays.fill(equal, 1.5);
+        assertEquals(1.5, Selection.nthElement(equal, 5_000));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar apenas o prefixo de tamanho k")
+    public void testPartialSort() {
+        double[] array = random.doubles(5000).toArray();
+        array[7] = Double.NaN;
+        array[8] = -0.0;
+        double[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        Selection.partialSort(array, 50);
+        assertArrayEquals(Arrays.copyOf(sorted, 50), Arrays.copyOf(array, 50));
+
+        long[] longs = random.longs(3000).toArray();
+        long[] sortedLongs = longs.clone();
+        Arrays.sort(sortedLongs);
+        assertArrayEquals(sortedLongs, Selection.partialSort(longs, longs.length));
+        assertArrayEquals(Arrays.copyOf(sortedLongs, 10), Selection.topK(longs, 10));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar k e n fora dos limites")
+    public void testInvalidArguments() {
+        int[] array = {3, 1, 2};
+        assertThrows(IllegalArgumentException.class, () -> Selection.topK(array, 4));
+        assertThrows(IllegalArgumentException.class, () -> Selection.partialSort(array, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Selection.nthElement(array, 3));
+    }
+}
@@ -0,0 +1,140 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Testes unitários para o SortSelector
+ */
+public class SortSelectorTest {
+
+    private final Random random = new Random(17);
+    private final List<SortSelector.Choice> choices = new ArrayList<>();
+    private final SortSelector selector = new SortSelector(SortSelector.Thresholds.DEFAULT, true, choices::add);
+
+    @Test
+    @DisplayName("Deve usar insertion sort em arrays pequenos")
+    public void testSmallArrays() {
+        Integer[] array = {5, 3, 9, 1};
+        assertArrayEquals(new Integer[]{1, 3, 5, 9}, selector.sort(array));
+        assertEquals(SortSelector.Path.INSERTION, lastPath());
+        assertEquals(1, selector.chosenCount(SortSelector.Path.INSERTION));
+    }
+
+    @Test
+    @DisplayName("Deve devolver entradas ordenadas e usar o merge sort adaptativo em entradas quase ordenadas ou invertidas")
+    public void testPresortedInputs() {
+        int[] sorted = new int[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        assertArrayEquals(sorted.clone(), selector.sort(sorted.clone()));
+        assertEquals(SortSelector.Path.SORTED, lastPath());
+        assertEquals(0.0, choices.get(0).descentRatio());
+
+        int[] reversed = sorted.clone();
+        SortUtils.flip(reversed, 0, reversed.length - 1);
+        assertArrayEquals(sorted, selector.sort(reversed));
+        assertEquals(SortSelector.Path.ADAPTIVE_MERGE, lastPath());
+        assertEquals(1.0, choices.get(1).descentRatio());
+        assertTrue(Double.isNaN(choices.get(1).inversionRatio()));
+
+        int[] almost = sorted.clone();
+        almost[3] = -1;
+        int[] expected = almost.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, selector.sort(almost));
+        assertEquals(SortSelector.Path.ADAPTIVE_MERGE, lastPath());
+        assertEquals(0.0, choices.get(2).descentRatio());
+
+        int[] local = sorted.clone();
+        for (int i = 0; i + 1 < local.length; i += 2) {
+            SortUtils.swap(local, i, i + 1);
+        }
+        assertArrayEquals(sorted, selector.sort(local));
+        assertEquals(SortSelector.Path.ADAPTIVE_MERGE, lastPath());
+        assertTrue(choices.get(3).descentRatio() > 0.05);
+        assertTrue(choices.get(3).inversionRatio() <= 0.05);
+        assertTrue(Double.isNaN(choices.get(3).duplicateRatio()));
+    }
+
+    @Test
+    @DisplayName("Deve usar radix sort em chaves inteiras aleatórias")
+    public void testRadixPath() {
+        long[] longs = random.longs(10_000).toArray();
+        long[] expected = longs.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, selector.sort(longs));
+        assertEquals(SortSelector.Path.RADIX, lastPath());
+        assertEquals(long.class, choices.get(0).elementType());
+
+        Integer[] boxed = random.ints(10_000).boxed().toArray(Integer[]::new);
+        Integer[] expectedBoxed = boxed.clone();
+        Arrays.sort(expectedBoxed);
+        assertArrayEquals(expectedBoxed, selector.sort(boxed));
+        assertEquals(SortSelector.Path.RADIX, lastPath());
+    }
+
+    @Test
+    @DisplayName("Deve usar quicksort em primitivos e merge sort estável em objetos de tamanho médio")
+    public void testMediumRandomInputs() {
+        double[] doubles = random.doubles(1000).toArray();
+        doubles[0] = Double.NaN;
+        double[] expected = doubles.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, selector.sort(doubles));
+        assertEquals(SortSelector.Path.QUICK, lastPath());
+
+        String[] strings = random.ints(1000).mapToObj(Integer::toString).toArray(String[]::new);
+        String[] original = strings.clone();
+        String[] expectedStrings = strings.clone();
+        Arrays.sort(expectedStrings);
+        assertArrayEquals(expectedStrings, selector.sort(strings));
+        assertEquals(SortSelector.Path.ADAPTIVE_MERGE, lastPath());
+
+        SortSelector unstable = new SortSelector(SortSelector.Thresholds.DEFAULT, false, choices::add);
+        assertArrayEquals(expectedStrings, unstable.sort(original));
+        assertEquals(SortSelector.Path.QUICK, lastPath());
+    }
+
+    @Test
+    @DisplayName("Deve usar quicksort em entradas com poucos valores distintos")
+    public void testFewUniquePath() {
+        int[] array = random.ints(10_000, 0, 4).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, selector.sort(array));
+        assertEquals(SortSelector.Path.QUICK, lastPath());
+        assertTrue(choices.get(0).duplicateRatio() >= SortSelector.FEW_UNIQUE_RATIO);
+    }
+
+    @Test
+    @DisplayName("Deve usar merge sort paralelo em objetos grandes")
+    public void testParallelPath() {
+        SortSelector.Thresholds thresholds = new SortSelector.Thresholds(16, 1 << 12, 5000, 0.05, 64);
+        SortSelector small = new SortSelector(thresholds, true, choices::add);
+        String[] strings = random.ints(20_000).mapToObj(Integer::toString).toArray(String[]::new);
+        String[] expected = strings.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, small.sort(strings));
+        assertEquals(SortSelector.Path.PARALLEL, lastPath());
+        assertEquals(1, small.chosenCount(SortSelector.Path.PARALLEL));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limites inválidos")
+    public void testInvalidThresholds() {
+        assertThrows(IllegalArgumentException.class, () -> new SortSelector.Thresholds(0, 2, 2, 0.05, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SortSelector.Thresholds(1, 2, 2, 0.5, 1));
+        assertThrows(NullPointerException.class, () -> new SortSelector(null, true, choice -> { }));
+    }
+
+    private SortSelector.Path lastPath() {
+        return choices.get(choices.size() - 1).path();
+    }
+}
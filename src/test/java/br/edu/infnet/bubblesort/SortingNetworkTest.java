@@ -0,0 +1,87 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Testes unitários para o SortingNetwork
+ *
+ * No build padrão a rede não é compilada e os testes exercitam o insertion sort; com o perfil
+ * vector (mvn -P vector test) a rede vetorizada é compilada e exercitada.
+ */
+public class SortingNetworkTest {
+
+    private final Random random = new Random(31);
+
+    @Test
+    @DisplayName("Deve detectar a Vector API quando o módulo está presente")
+    public void testDetection() {
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), SortingNetwork.VECTORIZED);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar blocos int de todos os tamanhos até o máximo")
+    public void testIntBlocks() {
+        for (int size = 0; size <= SortingNetwork.MAX_BLOCK; size++) {
+            int[] array = random.ints(size + 6, -size, size + 1).toArray();
+            array[0] = Integer.MAX_VALUE;
+            int[] expected = array.clone();
+            Arrays.sort(expected, 3, 3 + size);
+            SortingNetwork.sort(array, 3, 3 + size);
+            assertArrayEquals(expected, array);
+
+            int[] direct = random.ints(size).toArray();
+            int[] expectedDirect = direct.clone();
+            Arrays.sort(expectedDirect);
+            SortingNetwork.sort(direct, 0, size);
+            assertArrayEquals(expectedDirect, direct);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar blocos long de todos os tamanhos até o máximo")
+    public void testLongBlocks() {
+        for (int size = 0; size <= SortingNetwork.MAX_BLOCK; size++) {
+            long[] array = random.longs(size).toArray();
+            if (size > 2) {
+                array[0] = Long.MAX_VALUE;
+                array[1] = Long.MIN_VALUE;
+            }
+            long[] expected = array.clone();
+            Arrays.sort(expected);
+            SortingNetwork.sort(array, 0, size);
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar blocos double na ordem de Double.compare")
+    public void testDoubleBlocks() {
+        for (int size = 0; size <= SortingNetwork.MAX_BLOCK; size++) {
+            double[] array = random.doubles(size, -1, 1).toArray();
+            if (size > 4) {
+                array[0] = Double.NaN;
+                array[1] = -0.0;
+                array[2] = 0.0;
+                array[3] = Double.NEGATIVE_INFINITY;
+            }
+            double[] expected = array.clone();
+            Arrays.sort(expected);
+            SortingNetwork.sort(array, 0, size);
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar insertion sort fora dos limites da rede")
+    public void testOutsideNetworkRange() {
+        int[] array = random.ints(200).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        SortingNetwork.sort(array, 0, array.length);
+        assertArrayEquals(expected, array);
+    }
+}
@@ -0,0 +1,95 @@
+package br.edu.infnet.bubblesort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Testes unitários para o StringQuickSort
+ */
+public class StringQuickSortTest {
+
+    private static final String[] STREETS = {"Rua das Flores", "Rua das Palmeiras", "Avenida Brasil", "Avenida Rio Branco",
+            "Rua São Clemente", "Rua", ""};
+
+    private final Random random = new Random(37);
+    private final StringQuickSort stringSort = new StringQuickSort();
+
+    @Test
+    @DisplayName("Deve ordenar endereços com prefixos comuns na ordem de compareTo")
+    public void testSharedPrefixes() {
+        String[] array = addresses(20_000);
+        String[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, stringSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar strings vazias, prefixos e caracteres fora do BMP")
+    public void testEdgeCases() {
+        String[] array = {"b", "", "ab", "a", "", "abc", "😀", "￿", "a\u0000", "ab"};
+        String[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, stringSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve lidar com muitas strings iguais de prefixo comum longo")
+    public void testLongCommonPrefix() {
+        String prefix = "x".repeat(5000);
+        String[] array = new String[3000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = prefix + random.nextInt(10);
+        }
+        String[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, stringSort.sort(array));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar em paralelo com o mesmo resultado")
+    public void testParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StringQuickSort parallel = new StringQuickSort(pool, 1000);
+            String[] array = addresses(100_000);
+            String[] expected = array.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, parallel.sort(array));
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new StringQuickSort(ForkJoinPool.commonPool(), 16));
+    }
+
+    @Test
+    @DisplayName("Deve delegar outros tipos e aceitar arrays de Comparable com strings")
+    public void testFallback() {
+        Integer[] integers = random.ints(1000).boxed().toArray(Integer[]::new);
+        Integer[] expectedIntegers = integers.clone();
+        Arrays.sort(expectedIntegers);
+        assertArrayEquals(expectedIntegers, stringSort.sort(integers));
+
+        int[] ints = random.ints(1000).toArray();
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        assertArrayEquals(expectedInts, stringSort.sort(ints));
+
+        @SuppressWarnings("rawtypes")
+        Comparable[] strings = addresses(500);
+        Comparable<?>[] expected = strings.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, stringSort.sort(strings));
+    }
+
+    private String[] addresses(int size) {
+        String[] array = new String[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = STREETS[random.nextInt(STREETS.length)] + ", " + random.nextInt(2000);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,203 @@
+package br.edu.infnet.bubblesort;
+
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Rede de ordenação bitônica vetorizada com {@code jdk.incubator.vector}.
+ *
+ * <p>O bloco é copiado para um buffer da thread, completado até a próxima potência de dois com o
+ * maior valor do tipo e ordenado só com {@code min}, {@code max}, permutações e misturas entre lanes,
+ * sem desvios dependentes dos dados. Comparações entre elementos a uma distância de pelo menos uma
+ * largura de vetor usam dois vetores alinhados; as demais usam o vetor e a sua permutação pelo
+ * parceiro ({@code lane ^ j}).
+ *
+ * <p>Fica em {@code src/vector/java}, compilada só com o perfil Maven {@code vector}, e só pode ser
+ * carregada se o módulo estiver disponível; {@link SortingNetwork} a procura por reflexão.
+ */
+final class VectorSortingNetwork {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private static final VectorShuffle<Integer>[] INT_PARTNERS = partners(INTS);
+    private static final VectorMask<Integer>[][] INT_MASKS = masks(INTS);
+    private static final VectorShuffle<Long>[] LONG_PARTNERS = partners(LONGS);
+    private static final VectorMask<Long>[][] LONG_MASKS = masks(LONGS);
+
+    private static final ThreadLocal<int[]> INT_BLOCK =
+            ThreadLocal.withInitial(() -> new int[Math.max(SortingNetwork.MAX_BLOCK, INTS.length())]);
+    private static final ThreadLocal<long[]> LONG_BLOCK =
+            ThreadLocal.withInitial(() -> new long[Math.max(SortingNetwork.MAX_BLOCK, LONGS.length())]);
+
+    private VectorSortingNetwork() {
+    }
+
+    /**
+     * Ordena {@code array[from, to)}, com até {@link SortingNetwork#MAX_BLOCK} elementos.
+     */
+    static void sort(int[] array, int from, int to) {
+        int length = to - from;
+        int size = blockSize(length, INTS.length());
+        int[] block = INT_BLOCK.get();
+        System.arraycopy(array, from, block, 0, length);
+        Arrays.fill(block, length, size, Integer.MAX_VALUE);
+        bitonic(block, size);
+        System.arraycopy(block, 0, array, from, length);
+    }
+
+    /**
+     * Ordena {@code array[from, to)}, com até {@link SortingNetwork#MAX_BLOCK} elementos.
+     */
+    static void sort(long[] array, int from, int to) {
+        int length = to - from;
+        int size = blockSize(length, LONGS.length());
+        long[] block = LONG_BLOCK.get();
+        System.arraycopy(array, from, block, 0, length);
+        Arrays.fill(block, length, size, Long.MAX_VALUE);
+        bitonic(block, size);
+        System.arraycopy(block, 0, array, from, length);
+    }
+
+    /**
+     * Ordena {@code array[from, to)} na ordem de {@link Double#compare}, convertendo cada valor numa
+     * chave {@code long} de mesma ordem, como o {@link RadixSort}.
+     */
+    static void sort(double[] array, int from, int to) {
+        int length = to - from;
+        int size = blockSize(length, LONGS.length());
+        long[] block = LONG_BLOCK.get();
+        for (int i = 0; i < length; i++) {
+            long bits = Double.doubleToLongBits(array[from + i]);
+            block[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        Arrays.fill(block, length, size, Long.MAX_VALUE);
+        bitonic(block, size);
+        for (int i = 0; i < length; i++) {
+            long key = block[i];
+            array[from + i] = Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Menor potência de dois que comporta o bloco e ao menos um vetor inteiro.
+     */
+    private static int blockSize(int length, int lanes) {
+        return Math.max(lanes, length <= 1 ? 1 : Integer.highestOneBit(length - 1) << 1);
+    }
+
+    private static void bitonic(int[] block, int size) {
+        int lanes = INTS.length();
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= lanes) {
+                    for (int i = 0; i < size; i += lanes) {
+                        if ((i & j) != 0) {
+                            continue;
+                        }
+                        IntVector x = IntVector.fromArray(INTS, block, i);
+                        IntVector y = IntVector.fromArray(INTS, block, i + j);
+                        IntVector low = x.min(y);
+                        IntVector high = x.max(y);
+                        boolean ascending = (i & k) == 0;
+                        (ascending ? low : high).intoArray(block, i);
+                        (ascending ? high : low).intoArray(block, i + j);
+                    }
+                } else {
+                    int logJ = Integer.numberOfTrailingZeros(j);
+                    for (int i = 0; i < size; i += lanes) {
+                        IntVector x = IntVector.fromArray(INTS, block, i);
+                        IntVector y = x.rearrange(INT_PARTNERS[logJ]);
+                        VectorMask<Integer> takeMin = INT_MASKS[logJ][maskIndex(i, k, lanes)];
+                        x.max(y).blend(x.min(y), takeMin).intoArray(block, i);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void bitonic(long[] block, int size) {
+        int lanes = LONGS.length();
+        for (int k = 2; k <= size; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= lanes) {
+                    for (int i = 0; i < size; i += lanes) {
+                        if ((i & j) != 0) {
+                            continue;
+                        }
+                        LongVector x = LongVector.fromArray(LONGS, block, i);
+                        LongVector y = LongVector.fromArray(LONGS, block, i + j);
+                        LongVector low = x.min(y);
+                        LongVector high = x.max(y);
+                        boolean ascending = (i & k) == 0;
+                        (ascending ? low : high).intoArray(block, i);
+                        (ascending ? high : low).intoArray(block, i + j);
+                    }
+                } else {
+                    int logJ = Integer.numberOfTrailingZeros(j);
+                    for (int i = 0; i < size; i += lanes) {
+                        LongVector x = LongVector.fromArray(LONGS, block, i);
+                        LongVector y = x.rearrange(LONG_PARTNERS[logJ]);
+                        VectorMask<Long> takeMin = LONG_MASKS[logJ][maskIndex(i, k, lanes)];
+                        x.max(y).blend(x.min(y), takeMin).intoArray(block, i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Índice da máscara para a etapa {@code k}: {@code 1 + log2(k)} enquanto a direção varia dentro
+     * do vetor; depois, {@code 0} para vetores em ordem crescente e {@code 1} para decrescente.
+     */
+    private static int maskIndex(int i, int k, int lanes) {
+        if (k < lanes) {
+            return 1 + Integer.numberOfTrailingZeros(k);
+        }
+        return (i & k) == 0 ? 0 : 1;
+    }
+
+    /**
+     * Permutação que leva cada lane ao seu parceiro {@code lane ^ j}, para cada {@code j < lanes}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> VectorShuffle<E>[] partners(VectorSpecies<E> species) {
+        int lanes = species.length();
+        VectorShuffle<E>[] partners = new VectorShuffle[Integer.numberOfTrailingZeros(lanes)];
+        for (int logJ = 0; logJ < partners.length; logJ++) {
+            int j = 1 << logJ;
+            partners[logJ] = VectorShuffle.fromOp(species, lane -> lane ^ j);
+        }
+        return partners;
+    }
+
+    /**
+     * Lanes que ficam com o menor do par: a de baixo ({@code (lane & j) == 0}) quando a direção é
+     * crescente e a de cima quando é decrescente. {@code masks[logJ][0]} e {@code [1]} valem para
+     * direção constante no vetor; {@code masks[logJ][1 + log2(k)]}, para {@code 2 <= k < lanes},
+     * para direção dada por {@code (lane & k) == 0}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> VectorMask<E>[][] masks(VectorSpecies<E> species) {
+        int lanes = species.length();
+        int levels = Integer.numberOfTrailingZeros(lanes);
+        VectorMask<E>[][] masks = new VectorMask[levels][levels + 1];
+        boolean[] bits = new boolean[lanes];
+        for (int logJ = 0; logJ < levels; logJ++) {
+            int j = 1 << logJ;
+            for (int index = 0; index < masks[logJ].length; index++) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    boolean lower = (lane & j) == 0;
+                    boolean ascending = index < 2 ? index == 0 : (lane & (1 << (index - 1))) == 0;
+                    bits[lane] = lower == ascending;
+                }
+                masks[logJ][index] = VectorMask.fromArray(species, bits, 0);
+            }
+        }
+        return masks;
+    }
+}